@@ -0,0 +1,58 @@
+-- UUIDv4 vs UUIDv7 primary keys: insert throughput and index size
+--
+-- Run against a throwaway local database (docker-compose postgres), never a shared one:
+--   psql -h localhost -U <user> -d <db> -v rows=1000000 -f benchmarks/uuid-insert-benchmark.sql
+--
+-- Both tables mirror users + user_roles (PK on id, FK-side index on user_id).
+-- Keys are generated in SQL so the numbers measure the B-trees, not the JDBC round trips;
+-- uuid_v7() follows the same layout as UuidV7.java (48-bit ms, version 7, variant 10).
+-- Compare: elapsed time per INSERT (\timing), index size, and WAL written per run.
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 1000000
+\endif
+\timing on
+
+DROP SCHEMA IF EXISTS uuid_bench CASCADE;
+CREATE SCHEMA uuid_bench;
+SET search_path = uuid_bench;
+
+CREATE FUNCTION uuid_v7() RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                    PLACING substring(int8send((extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                    FROM 1 FOR 6),
+            52, 1), 53, 1), 'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+CREATE TABLE users_v4 (id UUID PRIMARY KEY, email VARCHAR(255) NOT NULL, created_at TIMESTAMPTZ NOT NULL DEFAULT now());
+CREATE TABLE users_v7 (LIKE users_v4 INCLUDING ALL);
+CREATE TABLE user_roles_v4 (user_id UUID NOT NULL, role_id UUID NOT NULL, PRIMARY KEY (user_id, role_id));
+CREATE TABLE user_roles_v7 (LIKE user_roles_v4 INCLUDING ALL);
+
+-- v4: what GenerationType.UUID produced
+SELECT pg_current_wal_lsn() AS wal_start \gset
+INSERT INTO users_v4 (id, email)
+SELECT gen_random_uuid(), 'user' || g || '@example.com' FROM generate_series(1, :rows) g;
+INSERT INTO user_roles_v4 (user_id, role_id)
+SELECT id, '00000000-0000-0000-0000-000000000001'::uuid FROM users_v4;
+SELECT pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), :'wal_start')) AS wal_v4;
+
+-- v7: @TimeOrderedId default
+SELECT pg_current_wal_lsn() AS wal_start \gset
+INSERT INTO users_v7 (id, email)
+SELECT uuid_v7(), 'user' || g || '@example.com' FROM generate_series(1, :rows) g;
+INSERT INTO user_roles_v7 (user_id, role_id)
+SELECT id, '00000000-0000-0000-0000-000000000001'::uuid FROM users_v7;
+SELECT pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), :'wal_start')) AS wal_v7;
+
+-- index size (smaller = fewer half-empty pages left behind by page splits)
+SELECT relname, pg_size_pretty(pg_relation_size(oid)) AS size
+FROM pg_class
+WHERE relnamespace = 'uuid_bench'::regnamespace AND relkind = 'i'
+ORDER BY relname;
+
+DROP SCHEMA uuid_bench CASCADE;
@@ -0,0 +1,103 @@
+package com.taskmanagement.userservice.benchmark;
+
+import com.taskmanagement.userservice.application.utils.JwtKeyRing;
+import com.taskmanagement.userservice.application.utils.JwtUtil;
+import com.taskmanagement.userservice.application.utils.VerifiedTokenCache;
+import com.taskmanagement.userservice.domain.entity.Action;
+import com.taskmanagement.userservice.domain.entity.Resource;
+import com.taskmanagement.userservice.domain.entity.Role;
+import com.taskmanagement.userservice.domain.entity.RolePermission;
+import com.taskmanagement.userservice.domain.entity.TokenRevocation;
+import com.taskmanagement.userservice.domain.entity.User;
+import com.taskmanagement.userservice.domain.repository.TokenRevocationRepository;
+import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import com.taskmanagement.userservice.infrastructure.security.TokenRevocationStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Objects wired the way Spring wires them (same @Value defaults as application.properties), no context
+ */
+final class BenchmarkFixtures {
+
+    static final String SECRET = "benchmark-secret-key-min-32-chars-long-for-hs256";
+    static final long ACCESS_EXPIRATION_MS = 900_000L;
+    static final long REFRESH_EXPIRATION_MS = 604_800_000L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil(boolean verifiedTokenCache) {
+        JwtKeyRing keyRing = new JwtKeyRing();
+        ReflectionTestUtils.setField(keyRing, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(keyRing, "algorithm", "HS256");
+        ReflectionTestUtils.setField(keyRing, "keysDirectory", "");
+        ReflectionTestUtils.setField(keyRing, "configuredActiveKid", "");
+        ReflectionTestUtils.setField(keyRing, "publishAhead", Duration.ofMinutes(10));
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+
+        JwtUtil jwtUtil = new JwtUtil(new VerifiedTokenCache(verifiedTokenCache, 100_000, new SimpleMeterRegistry()), keyRing);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", ACCESS_EXPIRATION_MS);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", REFRESH_EXPIRATION_MS);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    /*
+    Empty denylist: the filter pays for the Bloom filter probe only, like most requests in production
+     */
+    static TokenRevocationStore tokenRevocationStore() {
+        TokenRevocationRepository repository = new TokenRevocationRepository() {
+            @Override
+            public TokenRevocation save(TokenRevocation revocation) {
+                return revocation;
+            }
+
+            @Override
+            public List<TokenRevocation> findRevokedSince(Instant since, Instant now) {
+                return List.of();
+            }
+
+            @Override
+            public int deleteExpired(Instant now) {
+                return 0;
+            }
+        };
+        return new TokenRevocationStore(repository, 1_000_000, ACCESS_EXPIRATION_MS, REFRESH_EXPIRATION_MS);
+    }
+
+    // typical account: USER + one extra role, a handful of permissions
+    static User user() {
+        Role member = Role.builder()
+                .id(UUID.randomUUID())
+                .name("USER")
+                .permissions(Set.of(
+                        new RolePermission(Resource.TASK, Action.READ),
+                        new RolePermission(Resource.TASK, Action.CREATE)))
+                .build();
+        Role lead = Role.builder()
+                .id(UUID.randomUUID())
+                .name("TEAM_LEAD")
+                .permissions(Set.of(
+                        new RolePermission(Resource.TASK, Action.UPDATE),
+                        new RolePermission(Resource.FEATURE, Action.READ),
+                        new RolePermission(Resource.FEATURE, Action.UPDATE)))
+                .build();
+        return User.builder()
+                .id(UUID.randomUUID())
+                .email("benchmark@example.com")
+                .password("{bcrypt}$2a$10$DDWxKvYjlFoGZNWEGG7tgu8VQmpyHMNNac.YO3N7d2R1ZM4sHHmqq")
+                .roles(Set.of(member, lead))
+                .build();
+    }
+
+    static CustomUserDetails userDetails() {
+        return CustomUserDetails.fromUser(user());
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskmanagement.userservice.benchmark;
+
+import com.taskmanagement.userservice.domain.entity.User;
+import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import com.taskmanagement.userservice.infrastructure.security.PermissionMask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * CustomUserDetails factories: entity -> principal (login) and claims -> principal (every request)
+ */
+@State(Scope.Benchmark)
+public class CustomUserDetailsBenchmark {
+
+    private User user;
+    private UUID userId;
+    private List<String> roles;
+    private int permissions;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+        CustomUserDetails details = CustomUserDetails.fromUser(user);
+        userId = details.getId();
+        roles = List.of("ROLE_USER", "ROLE_TEAM_LEAD");
+        permissions = details.getPermissions();
+        if (permissions == PermissionMask.NONE) {
+            throw new IllegalStateException("Fixture user should carry permissions");
+        }
+    }
+
+    @Benchmark
+    public CustomUserDetails fromUser() {
+        return CustomUserDetails.fromUser(user);
+    }
+
+    @Benchmark
+    public CustomUserDetails fromJwtClaims() {
+        return CustomUserDetails.fromJwtClaims(userId, "benchmark@example.com", roles, permissions);
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskmanagement.userservice.benchmark;
+
+import com.taskmanagement.userservice.application.utils.JwtUtil;
+import com.taskmanagement.userservice.infrastructure.security.AuthMetrics;
+import com.taskmanagement.userservice.infrastructure.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * One authenticated request through JwtAuthenticationFilter (header -> verify -> denylist -> SecurityContext)
+ * The mock request / response / chain are built per invocation and show up in the gc profile,
+ * compare runs against each other, not against production allocation rates
+ */
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean verifiedTokenCache;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil(verifiedTokenCache);
+        filter = new JwtAuthenticationFilter(jwtUtil, BenchmarkFixtures.tokenRevocationStore(),
+                new AuthMetrics(new SimpleMeterRegistry()));
+        authorization = "Bearer " + jwtUtil.generateToken(BenchmarkFixtures.userDetails(), UUID.randomUUID());
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
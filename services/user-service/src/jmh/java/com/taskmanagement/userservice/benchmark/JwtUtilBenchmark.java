@@ -0,0 +1,79 @@
+package com.taskmanagement.userservice.benchmark;
+
+import com.taskmanagement.userservice.application.utils.JwtUtil;
+import com.taskmanagement.userservice.application.utils.VerifiedToken;
+import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JwtUtil: token minting, verification and the claim extractors
+ * verifiedTokenCache only changes validate / verify (a hit skips signature + JSON);
+ * the extract* methods always parse, they are the legacy per-claim path
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    @Param({"true", "false"})
+    public boolean verifiedTokenCache;
+
+    private JwtUtil jwtUtil;
+    private CustomUserDetails userDetails;
+    private UUID sessionId;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil(verifiedTokenCache);
+        userDetails = BenchmarkFixtures.userDetails();
+        sessionId = UUID.randomUUID();
+        accessToken = jwtUtil.generateToken(userDetails, sessionId);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails, sessionId);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtUtil.generateRefreshToken(userDetails, sessionId);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verify() {
+        return jwtUtil.verify(accessToken);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(accessToken);
+    }
+
+    @Benchmark
+    public UUID extractUserId() {
+        return jwtUtil.extractUserId(accessToken);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtUtil.extractEmail(accessToken);
+    }
+
+    @Benchmark
+    public List<String> extractRole() {
+        return jwtUtil.extractRole(accessToken);
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskmanagement.userservice.loadtest;
+
+/**
+ * Request types of the mix, key = name used in loadtest.mix ("login=10,refresh=10,me=50,profile=30")
+ */
+enum Endpoint {
+
+    LOGIN("login", "POST /api/v1/auth/login"),
+    REFRESH("refresh", "POST /api/v1/auth/refresh-token"),
+    ME("me", "GET /api/v1/users/me"),
+    PROFILE("profile", "GET /api/v1/users/{id}/profile");
+
+    private final String key;
+    private final String route;
+
+    Endpoint(String key, String route) {
+        this.key = key;
+        this.route = route;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String route() {
+        return route;
+    }
+
+    static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key.trim())) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint in loadtest.mix: " + key);
+    }
+}
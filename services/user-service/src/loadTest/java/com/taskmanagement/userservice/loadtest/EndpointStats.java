@@ -0,0 +1,92 @@
+package com.taskmanagement.userservice.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency (HdrHistogram, microseconds, 3 significant digits) and outcome counters of one endpoint
+ * Latency = response received - intended send time, so queueing in the client counts (no coordinated omission)
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(long intendedStartNanos, long completedNanos, int status) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedStartNanos);
+        recorder.recordValue(Math.max(0, Math.min(micros, HIGHEST_TRACKABLE_MICROS)));
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /*
+    Transport error / timeout: still a request that was due, latency up to now
+     */
+    void recordFailure(long intendedStartNanos, long completedNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedStartNanos);
+        recorder.recordValue(Math.max(0, Math.min(micros, HIGHEST_TRACKABLE_MICROS)));
+        failures.increment();
+    }
+
+    /*
+    Never sent (client at max-in-flight): no latency to record, reported as "dropped"
+     */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    Map<String, Object> report() {
+        Histogram histogram = recorder.getIntervalHistogram();
+        long errors = failures.sum();
+        Map<String, Long> byStatus = new TreeMap<>();
+        for (Map.Entry<Integer, LongAdder> entry : statuses.entrySet()) {
+            byStatus.put(String.valueOf(entry.getKey()), entry.getValue().sum());
+            if (entry.getKey() >= 400) {
+                errors += entry.getValue().sum();
+            }
+        }
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+        latency.put("p90", millis(histogram.getValueAtPercentile(90)));
+        latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+        latency.put("p99.9", millis(histogram.getValueAtPercentile(99.9)));
+        latency.put("max", millis(histogram.getMaxValue()));
+        latency.put("mean", Math.round(histogram.getMean()) / 1000.0);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", histogram.getTotalCount());
+        report.put("errors", errors);
+        report.put("transportFailures", failures.sum());
+        report.put("dropped", dropped.sum());
+        report.put("status", byStatus);
+        report.put("latencyMs", latency);
+        report.put("histogram", encode(histogram)); // compressed HdrHistogram, base64 (HistogramLogReader / merge)
+        return report;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        byte[] bytes = new byte[length];
+        buffer.rewind();
+        buffer.get(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskmanagement.userservice.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from system properties (./gradlew loadTest -Ploadtest.rate=500 ...)
+ * - target: running instance to hit; empty -> user-service is booted in-process on a random port
+ * - rate: arrivals per second, fixed (open model), independent of how fast responses come back
+ * - warmup: requests sent but not recorded; duration: recorded part
+ */
+record LoadTestConfig(
+        URI target,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        int users,
+        Map<Endpoint, Integer> mix,
+        int maxInFlight,
+        Duration requestTimeout,
+        Path report
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        String target = System.getProperty("loadtest.target", "");
+        return new LoadTestConfig(
+                target.isBlank() ? null : URI.create(target),
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT15S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Integer.parseInt(System.getProperty("loadtest.users", "200")),
+                parseMix(System.getProperty("loadtest.mix", "login=10,refresh=10,me=50,profile=30")),
+                Integer.parseInt(System.getProperty("loadtest.max-in-flight", "2000")),
+                Duration.parse(System.getProperty("loadtest.request-timeout", "PT10S")),
+                Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/report.json"))
+        );
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix entries look like name=weight, got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.fromKey(parts[0]), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no endpoint with a positive weight");
+        }
+        return weights;
+    }
+}
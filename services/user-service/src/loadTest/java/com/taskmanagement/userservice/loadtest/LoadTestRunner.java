@@ -0,0 +1,128 @@
+package com.taskmanagement.userservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanagement.userservice.UserServiceApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LoadTestRunner: ./gradlew loadTest
+ * Boots user-service in-process (or uses loadtest.target), creates test users, drives the mix at a fixed
+ * arrival rate and writes a JSON report with per-endpoint percentiles + the raw histograms.
+ * Run it against a throwaway database: every run registers loadtest.users new accounts.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ConfigurableApplicationContext application = config.target() == null ? boot() : null;
+        try {
+            URI target = config.target() != null
+                    ? config.target()
+                    : URI.create("http://localhost:" + ((WebServerApplicationContext) application).getWebServer().getPort());
+
+            UserServiceClient client = new UserServiceClient(target, config.requestTimeout());
+            System.out.printf("Creating %d test users on %s%n", config.users(), target);
+            client.createSessions(config.users());
+
+            System.out.printf("Driving %.0f req/s for %s (+ %s warm-up), mix %s%n",
+                    config.rate(), config.duration(), config.warmup(), config.mix());
+            OpenLoopDriver driver = new OpenLoopDriver(config, client);
+            Instant startedAt = Instant.now();
+            driver.run();
+
+            // read once: taking the histograms resets them
+            Map<Endpoint, Map<String, Object>> results = new EnumMap<>(Endpoint.class);
+            driver.stats().forEach((endpoint, stats) -> results.put(endpoint, stats.report()));
+
+            Map<String, Object> report = report(config, target, startedAt, driver, results);
+            Files.createDirectories(config.report().toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(config.report().toFile(), report);
+            printSummary(driver, results);
+            System.out.println("Report: " + config.report().toAbsolutePath());
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    /*
+    Same configuration as production (application.properties); the env placeholders fall back to the
+    local docker database (docker/read-replica-compose.yml primary), real env variables still win
+     */
+    private static ConfigurableApplicationContext boot() {
+        SpringApplication application = new SpringApplication(UserServiceApplication.class);
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("DATABASE_URL", "jdbc:postgresql://localhost:5432/users");
+        defaults.put("DATABASE_USERNAME", "users");
+        defaults.put("DATABASE_PASSWORD", "users");
+        defaults.put("SECRET_KEY", "load-test-secret-key-min-32-chars-long-for-hs256");
+        defaults.put("EXPIRATION", "900000");
+        defaults.put("REFRESH_EXPIRATION", "604800000");
+        defaults.put("FRONTEND_BASE_URL", "http://localhost:3000");
+        // every virtual user comes from 127.0.0.1, the per-IP buckets would only measure 429s
+        defaults.put("RATE_LIMIT_ENABLED", "false");
+        application.setDefaultProperties(defaults);
+        return application.run("--server.port=0");
+    }
+
+    private static Map<String, Object> report(LoadTestConfig config, URI target, Instant startedAt,
+                                              OpenLoopDriver driver, Map<Endpoint, Map<String, Object>> results) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("ratePerSecond", config.rate());
+        settings.put("warmup", config.warmup().toString());
+        settings.put("duration", config.duration().toString());
+        settings.put("users", config.users());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((endpoint, weight) -> mix.put(endpoint.key(), weight));
+        settings.put("mix", mix);
+        settings.put("maxInFlight", config.maxInFlight());
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        results.forEach((endpoint, result) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("route", endpoint.route());
+            entry.putAll(result);
+            endpoints.put(endpoint.key(), entry);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("target", target.toString());
+        report.put("java", Runtime.version().toString());
+        report.put("cpus", Runtime.getRuntime().availableProcessors());
+        report.put("config", settings);
+        report.put("sent", driver.sent());
+        report.put("dropped", driver.dropped());
+        report.put("refreshSkipped", driver.skipped());
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printSummary(OpenLoopDriver driver, Map<Endpoint, Map<String, Object>> results) {
+        System.out.printf("%-8s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.forEach((endpoint, report) -> {
+            Map<String, Object> latency = (Map<String, Object>) report.get("latencyMs");
+            System.out.printf("%-8s %9d %7d %9.2f %9.2f %9.2f %9.2f%n", endpoint.key(),
+                    (Long) report.get("requests"), (Long) report.get("errors"),
+                    (Double) latency.get("p50"), (Double) latency.get("p99"),
+                    (Double) latency.get("p99.9"), (Double) latency.get("max"));
+        });
+        System.out.printf("dropped (client saturated): %d, refresh skipped (no idle session): %d%n",
+                driver.dropped(), driver.skipped());
+    }
+}
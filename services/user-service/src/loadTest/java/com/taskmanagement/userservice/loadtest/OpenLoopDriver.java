@@ -0,0 +1,120 @@
+package com.taskmanagement.userservice.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * OpenLoopDriver: Requests are due at fixed intervals (1 / rate), whether or not earlier ones have returned
+ * - the n-th request is due at start + n * interval; latency is measured from that time, so a stalled
+ *   server or a late dispatcher shows up as latency instead of silently lowering the rate
+ * - the endpoint of each arrival is drawn from the weighted mix
+ * - more than maxInFlight outstanding requests -> the arrival is dropped and counted apart: it never
+ *   got a response, a near-zero sample would only pull the percentiles down
+ */
+final class OpenLoopDriver {
+
+    private final LoadTestConfig config;
+    private final UserServiceClient client;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final Endpoint[] slots;
+    private final Semaphore inFlight;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private long sent;
+
+    OpenLoopDriver(LoadTestConfig config, UserServiceClient client) {
+        this.config = config;
+        this.client = client;
+        this.inFlight = new Semaphore(config.maxInFlight());
+        int total = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+        this.slots = new Endpoint[total];
+        int next = 0;
+        for (Map.Entry<Endpoint, Integer> entry : config.mix().entrySet()) {
+            stats.put(entry.getKey(), new EndpointStats());
+            for (int i = 0; i < entry.getValue(); i++) {
+                slots[next++] = entry.getKey();
+            }
+        }
+    }
+
+    void run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.rate());
+        long warmupNanos = config.warmup().toNanos();
+        long totalNanos = warmupNanos + config.duration().toNanos();
+        long start = System.nanoTime();
+
+        for (long n = 0; ; n++) {
+            long due = start + n * intervalNanos;
+            if (due - start >= totalNanos) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = slots[random.nextInt(slots.length)];
+            fire(endpoint, due, due - start >= warmupNanos);
+        }
+
+        // let outstanding requests finish (bounded by the request timeout)
+        inFlight.tryAcquire(config.maxInFlight(), config.requestTimeout().toMillis() + 1_000, TimeUnit.MILLISECONDS);
+    }
+
+    private void fire(Endpoint endpoint, long due, boolean measured) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        if (!inFlight.tryAcquire()) {
+            if (measured) {
+                dropped.increment();
+                endpointStats.recordDropped();
+            }
+            return;
+        }
+        CompletableFuture<HttpResponse<String>> response = client.send(endpoint);
+        if (response == null) {
+            inFlight.release();
+            if (measured) {
+                skipped.increment();
+            }
+            return;
+        }
+        if (measured) {
+            sent++;
+        }
+        response.whenComplete((result, error) -> {
+            long completed = System.nanoTime();
+            inFlight.release();
+            if (!measured) {
+                return;
+            }
+            if (error != null) {
+                endpointStats.recordFailure(due, completed);
+            } else {
+                endpointStats.record(due, completed, result.statusCode());
+            }
+        });
+    }
+
+    Map<Endpoint, EndpointStats> stats() {
+        return stats;
+    }
+
+    long sent() {
+        return sent;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    long skipped() {
+        return skipped.sum();
+    }
+}
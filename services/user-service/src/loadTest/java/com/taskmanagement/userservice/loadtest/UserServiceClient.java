@@ -0,0 +1,176 @@
+package com.taskmanagement.userservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * HTTP side of the load test: test users, their sessions and one request per Endpoint
+ * - Refresh tokens are single-use (reuse revokes the family), so a session is checked out
+ *   while its refresh is in flight; no idle session -> the arrival is counted as skipped
+ */
+final class UserServiceClient {
+
+    private static final String PASSWORD = "LoadTest@12345";
+
+    private final URI baseUri;
+    private final Duration timeout;
+    private final HttpClient http;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<Session> sessions = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Session> idleForRefresh = new ConcurrentLinkedQueue<>();
+    // session renewal (may block on a re-login) runs here, never on the thread completing the response
+    private final Executor renewals = Executors.newVirtualThreadPerTaskExecutor();
+
+    UserServiceClient(URI baseUri, Duration timeout) {
+        this.baseUri = baseUri;
+        this.timeout = timeout;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Register + log in users concurrently, before any measurement starts
+     */
+    void createSessions(int users) throws Exception {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        try (ExecutorService pool = Executors.newFixedThreadPool(16)) {
+            List<Future<Session>> futures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                String email = "loadtest-" + run + "-" + i + "@example.com";
+                futures.add(pool.submit(() -> register(email)));
+            }
+            for (Future<Session> future : futures) {
+                Session session = future.get();
+                sessions.add(session);
+                idleForRefresh.add(session);
+            }
+        }
+    }
+
+    /**
+     * Sends the request, null when the endpoint can't be served right now (refresh without idle session)
+     */
+    CompletableFuture<HttpResponse<String>> send(Endpoint endpoint) {
+        return switch (endpoint) {
+            case LOGIN -> {
+                Session session = anySession();
+                // a fresh family per login, the tokens are not kept
+                yield sendAsync(post("/api/v1/auth/login", Map.of("email", session.email, "password", PASSWORD)));
+            }
+            case REFRESH -> {
+                Session session = idleForRefresh.poll();
+                if (session == null) {
+                    yield null;
+                }
+                CompletableFuture<HttpResponse<String>> refreshed =
+                        sendAsync(post("/api/v1/auth/refresh-token", Map.of("refreshToken", session.refreshToken)));
+                // the driver times the raw response, a re-login after a failed refresh must not land in it
+                refreshed.whenCompleteAsync((response, error) -> afterRefresh(session, response), renewals);
+                yield refreshed;
+            }
+            case ME -> sendAsync(request("/api/v1/users/me")
+                    .header("Authorization", "Bearer " + anySession().accessToken)
+                    .GET()
+                    .build());
+            case PROFILE -> sendAsync(request("/api/v1/users/" + anySession().userId + "/profile").GET().build());
+        };
+    }
+
+    private void afterRefresh(Session session, HttpResponse<String> response) {
+        try {
+            if (response != null && response.statusCode() == 200) {
+                session.update(mapper.readTree(response.body()));
+            } else {
+                // token burnt or family revoked: start a new family (not measured)
+                session.update(login(session.email));
+            }
+            idleForRefresh.add(session);
+        } catch (Exception ex) {
+            System.err.println("Session " + session.email + " could not be renewed, dropping it: " + ex.getMessage());
+        }
+    }
+
+    private Session register(String email) throws IOException, InterruptedException {
+        HttpResponse<String> registered = http.send(post("/api/v1/auth/register", Map.of(
+                "email", email,
+                "password", PASSWORD,
+                "firstName", "Load",
+                "lastName", "Test")), HttpResponse.BodyHandlers.ofString());
+        if (registered.statusCode() >= 300) {
+            throw new IllegalStateException("Register " + email + " failed: " + registered.statusCode() + " " + registered.body());
+        }
+        Session session = new Session(email);
+        session.update(login(email));
+        return session;
+    }
+
+    private JsonNode login(String email) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(post("/api/v1/auth/login", Map.of("email", email, "password", PASSWORD)),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login " + email + " failed: " + response.statusCode() + " " + response.body());
+        }
+        return mapper.readTree(response.body());
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request) {
+        return http.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest post(String path, Map<String, String> body) {
+        try {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(timeout);
+    }
+
+    private Session anySession() {
+        return sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+    }
+
+    private static final class Session {
+
+        private final String email;
+        private volatile String userId;
+        private volatile String accessToken;
+        private volatile String refreshToken;
+
+        private Session(String email) {
+            this.email = email;
+        }
+
+        private void update(JsonNode tokens) {
+            userId = tokens.path("userId").asText();
+            accessToken = tokens.path("accessToken").asText();
+            refreshToken = tokens.path("refreshToken").asText();
+        }
+    }
+}
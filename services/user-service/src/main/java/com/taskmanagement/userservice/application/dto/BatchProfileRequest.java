@@ -0,0 +1,14 @@
+package com.taskmanagement.userservice.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchProfileRequest(
+        @NotNull
+        @Size(max = 200) // rejects huge bodies before deduplication; app.profiles.batch.max-ids caps distinct ids
+        List<UUID> userIds
+) {
+}
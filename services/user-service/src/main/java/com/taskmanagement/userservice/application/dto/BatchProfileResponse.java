@@ -0,0 +1,10 @@
+package com.taskmanagement.userservice.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchProfileResponse(
+        List<ProfileSummaryResponse> profiles, // in request order
+        List<UUID> missing // requested ids without a (live) profile
+) {
+}
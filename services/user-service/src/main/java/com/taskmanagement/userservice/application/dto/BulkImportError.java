@@ -0,0 +1,8 @@
+package com.taskmanagement.userservice.application.dto;
+
+public record BulkImportError(
+        long row, // 1-based data row / line, header excluded
+        String email,
+        String message
+) {
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.userservice.application.dto;
+
+import java.util.List;
+
+public record BulkImportResponse(
+        long totalRows,
+        long imported,
+        long failed,
+        List<BulkImportError> errors, // first <max-reported-errors> failures only
+        boolean errorsTruncated
+) {
+}
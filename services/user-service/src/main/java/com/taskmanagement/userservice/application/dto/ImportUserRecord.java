@@ -0,0 +1,27 @@
+package com.taskmanagement.userservice.application.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * One user of a bulk import (CSV row / NDJSON line), same rules as RegisterRequest
+ */
+public record ImportUserRecord(
+        @NotBlank
+        @Email
+        String email,
+
+        @NotBlank
+        @Size(min = 8)
+        String password,
+
+        @NotBlank
+        @Size(max = 50)
+        String firstName,
+
+        @NotBlank
+        @Size(max = 50)
+        String lastName
+) {
+}
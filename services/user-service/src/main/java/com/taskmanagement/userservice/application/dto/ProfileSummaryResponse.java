@@ -0,0 +1,17 @@
+package com.taskmanagement.userservice.application.dto;
+
+import com.taskmanagement.userservice.domain.projection.ProfileSummaryRow;
+
+import java.util.UUID;
+
+// compact profile for lists (assignees on a board), no email / roles / bio
+public record ProfileSummaryResponse(
+        UUID userId,
+        String firstName,
+        String lastName,
+        String photoUrl
+) {
+    public static ProfileSummaryResponse from(ProfileSummaryRow row){
+        return new ProfileSummaryResponse(row.userId(), row.firstName(), row.lastName(), row.photoUrl());
+    }
+}
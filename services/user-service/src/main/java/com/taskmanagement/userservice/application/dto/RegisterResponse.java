@@ -32,17 +32,23 @@ public class RegisterResponse {
     private Gender gender;
 
     public static RegisterResponse from(User user, Profile profile){
+        Set<String> roles = null;
+        if (user.getRoles() != null && !user.getRoles().isEmpty()) {
+            roles = user.getRoles().stream()
+                    .map(Role::getName)
+                    .collect(Collectors.toSet());
+        }
+        return from(user, profile, roles);
+    }
+
+    // role names already known by the caller, doesn't touch (possibly lazy) user.roles
+    public static RegisterResponse from(User user, Profile profile, Set<String> roleNames){
         RegisterResponseBuilder builder = RegisterResponse.builder()
                 .id(user.getId())
                 .email(user.getEmail())
+                .roles(roleNames)
                 .createdAt(user.getCreatedAt());
 
-        if (user.getRoles() != null && !user.getRoles().isEmpty()) {
-            builder.roles(user.getRoles().stream()
-                    .map(Role::getName)
-                    .collect(Collectors.toSet()));
-        }
-
         if(profile != null){
             builder.firstName(profile.getFirstName())
                     .lastName(profile.getLastName())
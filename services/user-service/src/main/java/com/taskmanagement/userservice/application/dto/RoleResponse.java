@@ -0,0 +1,15 @@
+package com.taskmanagement.userservice.application.dto;
+
+import lombok.Builder;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Builder
+public record RoleResponse(
+        UUID id,
+        String name,
+        String description,
+        Set<String> permissions // "RESOURCE:ACTION"
+) {
+}
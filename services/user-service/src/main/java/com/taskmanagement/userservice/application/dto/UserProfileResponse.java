@@ -4,9 +4,12 @@ import com.taskmanagement.userservice.domain.entity.Gender;
 import com.taskmanagement.userservice.domain.entity.Profile;
 import com.taskmanagement.userservice.domain.entity.Role;
 import com.taskmanagement.userservice.domain.entity.User;
+import com.taskmanagement.userservice.domain.projection.UserProfileRow;
 import lombok.Builder;
 
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -34,4 +37,24 @@ public record UserProfileResponse(
                 .bio(profile.getBio())
                 .build();
     }
+
+    // from the joined read model, one row per role
+    public static UserProfileResponse from(List<UserProfileRow> rows){
+        UserProfileRow first = rows.get(0);
+        Set<String> roles = new HashSet<>();
+        for (UserProfileRow row : rows) {
+            if (row.roleName() != null) {
+                roles.add(row.roleName());
+            }
+        }
+        return UserProfileResponse.builder()
+                .email(first.email())
+                .firstName(first.firstName())
+                .lastName(first.lastName())
+                .roles(Set.copyOf(roles))
+                .dateOfBirth(first.dateOfBirth())
+                .gender(first.gender())
+                .bio(first.bio())
+                .build();
+    }
 }
@@ -0,0 +1,9 @@
+package com.taskmanagement.userservice.application.dto;
+
+import java.util.List;
+
+public record UserSearchResponse(
+        List<UserSummaryResponse> users,
+        String nextCursor // null on the last page
+) {
+}
@@ -0,0 +1,18 @@
+package com.taskmanagement.userservice.application.dto;
+
+import com.taskmanagement.userservice.domain.projection.UserSearchRow;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record UserSummaryResponse(
+        UUID id,
+        String email,
+        String firstName,
+        String lastName,
+        Instant createdAt
+) {
+    public static UserSummaryResponse from(UserSearchRow row){
+        return new UserSummaryResponse(row.id(), row.email(), row.firstName(), row.lastName(), row.createdAt());
+    }
+}
@@ -6,20 +6,31 @@ import com.taskmanagement.userservice.domain.entity.Role;
 import com.taskmanagement.userservice.domain.entity.User;
 import com.taskmanagement.userservice.domain.exception.InvalidRefreshTokenException;
 import com.taskmanagement.userservice.domain.exception.EmailExistedException;
+import com.taskmanagement.userservice.domain.exception.HashingCapacityExceededException;
 import com.taskmanagement.userservice.domain.exception.RoleNotFoundException;
 import com.taskmanagement.userservice.domain.repository.ProfileRepository;
 import com.taskmanagement.userservice.domain.repository.RoleRepository;
 import com.taskmanagement.userservice.domain.repository.UserRepository;
+import com.taskmanagement.userservice.infrastructure.persistence.ReadYourWritesTracker;
+import com.taskmanagement.userservice.infrastructure.security.AuthMetrics;
+import com.taskmanagement.userservice.infrastructure.security.AuthoritySnapshotCache;
 import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
 import com.taskmanagement.userservice.infrastructure.security.CustomUserDetailsService;
+import com.taskmanagement.userservice.infrastructure.security.RbacRegistry;
+import com.taskmanagement.userservice.infrastructure.security.RbacSnapshot;
+import com.taskmanagement.userservice.infrastructure.security.TokenRevocationStore;
 import com.taskmanagement.userservice.application.utils.JwtUtil;
+import com.taskmanagement.userservice.application.utils.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,28 +46,33 @@ public class AuthServiceImpl implements AuthService{
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
     private final RoleRepository roleRepository;
+    private final RbacRegistry rbacRegistry;
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
     private final AuthenticationManager authenticationManager;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthoritySnapshotCache authoritySnapshotCache;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AuthMetrics authMetrics;
 
     private static final Long EXPIRED_TIME = 900L; // Minute 15
     private static final String TOKEN_TYPE = "Bearer";
 
     @Override
     public LoginResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.email(),
-                        request.password()
-                )
-        );
+        UsernamePasswordAuthenticationToken credentials =
+                new UsernamePasswordAuthenticationToken(request.email(), request.password());
+        Authentication authentication = authenticate(request.email(), credentials);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        String accessToken = jwtUtil.generateToken(userDetails);
-        String refreshToken = jwtUtil.generateRefreshToken(userDetails);
+        UUID familyId = UUID.randomUUID(); // new refresh-token family per login
+        String accessToken = jwtUtil.generateToken(userDetails, familyId);
+        String refreshToken = refreshTokenService.issue(userDetails, familyId);
+        authoritySnapshotCache.put(userDetails);
 
         return LoginResponse.builder()
                 .accessToken(accessToken)
@@ -68,6 +84,38 @@ public class AuthServiceImpl implements AuthService{
                 .build();
     }
 
+    /*
+    Count every attempt by outcome, the exception still reaches GlobalExceptionHandler
+     */
+    private Authentication authenticate(String email, UsernamePasswordAuthenticationToken credentials) {
+        try {
+            // just registered -> the replicas may not have the user yet
+            Authentication authentication = readYourWritesTracker.wroteRecently(ReadYourWritesTracker.emailKey(email))
+                    ? readYourWritesTracker.forcePrimary(() -> authenticationManager.authenticate(credentials))
+                    : authenticationManager.authenticate(credentials);
+            authMetrics.loginSucceeded();
+            return authentication;
+        } catch (BadCredentialsException ex) {
+            authMetrics.loginFailed(AuthMetrics.LoginFailure.BAD_CREDENTIALS);
+            throw ex;
+        } catch (DisabledException ex) {
+            authMetrics.loginFailed(AuthMetrics.LoginFailure.ACCOUNT_DISABLED);
+            throw ex;
+        } catch (LockedException ex) {
+            authMetrics.loginFailed(AuthMetrics.LoginFailure.ACCOUNT_LOCKED);
+            throw ex;
+        } catch (HashingCapacityExceededException ex) {
+            authMetrics.loginFailed(AuthMetrics.LoginFailure.HASHING_SATURATED);
+            throw ex;
+        } catch (AuthenticationException ex) {
+            // unknown email: the dummy hash runs inside retrieveUser, which wraps the rejection
+            authMetrics.loginFailed(ex.getCause() instanceof HashingCapacityExceededException
+                    ? AuthMetrics.LoginFailure.HASHING_SATURATED
+                    : AuthMetrics.LoginFailure.OTHER);
+            throw ex;
+        }
+    }
+
     @Override
     @Transactional
     public RegisterResponse register(RegisterRequest request) {
@@ -75,8 +123,10 @@ public class AuthServiceImpl implements AuthService{
             throw new EmailExistedException("Email is already existed!!!");
         }
 
-        Role userRole = roleRepository.findByName("USER")
+        // role id from the RBAC snapshot, a reference is enough for user_roles (no SELECT)
+        RbacSnapshot.RoleGrant defaultRole = rbacRegistry.current().role("USER")
                 .orElseThrow(() -> new RoleNotFoundException("Default role USER not found"));
+        Role userRole = roleRepository.getReferenceById(defaultRole.id());
 
         User user = User.builder()
                 .email(request.getEmail())
@@ -93,28 +143,37 @@ public class AuthServiceImpl implements AuthService{
                 .build();
 
         Profile savedProfile = profileRepository.save(profile);
+        readYourWritesTracker.markWrite(ReadYourWritesTracker.emailKey(savedUser.getEmail()));
 
-        return RegisterResponse.from(savedUser,savedProfile);
+        return RegisterResponse.from(savedUser,savedProfile, Set.of(defaultRole.name()));
     }
 
+    /**
+     * Rotate: consume the presented refresh token and issue the next one in the same family.
+     * Authorities come from the snapshot cache, the DB is only hit on a cache miss.
+     * One transaction: if issuing fails the presented token is not spent, the client can retry.
+     * A reuse (InvalidRefreshTokenException) still commits, the family revocation must stick.
+     */
     @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
     public LoginResponse refreshToken(RefreshTokenRequest request) {
-        String refreshToken = request.refreshToken();
+        VerifiedToken refreshToken = jwtUtil.verify(request.refreshToken())
+                .orElseThrow(() -> new InvalidRefreshTokenException("Token is invalid or expired"));
 
-        if(!jwtUtil.validateToken(refreshToken)){
-            throw new InvalidRefreshTokenException("Token is invalid or expired");
+        if(!refreshToken.isRefreshToken()){
+            throw new InvalidRefreshTokenException("Token is not a refresh token");
         }
 
-        if(!jwtUtil.isRefreshToken(refreshToken)){
-            throw new InvalidRefreshTokenException("Token is not a refresh token");
+        if(tokenRevocationStore.isRevoked(refreshToken)){
+            throw new InvalidRefreshTokenException("Token has been revoked");
         }
 
-        String username = jwtUtil.extractUsername(refreshToken);
+        refreshTokenService.consume(request.refreshToken(), refreshToken);
 
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-        CustomUserDetails customUserDetails = (CustomUserDetails) userDetails;
-        String newAccessToken = jwtUtil.generateToken(customUserDetails);
-        String newRefreshToken = jwtUtil.generateRefreshToken(customUserDetails);
+        CustomUserDetails customUserDetails = authoritySnapshotCache.get(refreshToken.userId(),
+                () -> (CustomUserDetails) customUserDetailsService.loadUserByUsername(refreshToken.subject()));
+        String newAccessToken = jwtUtil.generateToken(customUserDetails, refreshToken.sessionId());
+        String newRefreshToken = refreshTokenService.issue(customUserDetails, refreshToken.sessionId());
 
         return LoginResponse.builder()
                 .accessToken(newAccessToken)
@@ -128,8 +187,17 @@ public class AuthServiceImpl implements AuthService{
 
     @Override
     public void logout(String token) {
-        // maybe can add token to the blocklist
-        log.info("User logged out - token removed client-side");
+        // invalid or already expired token -> nothing to revoke, logout stays idempotent
+        jwtUtil.verify(token).ifPresent(verified -> {
+            if (verified.sessionId() != null) {
+                // whole login session: refresh tokens of the family + every access token carrying the sid
+                refreshTokenService.revokeFamily(verified.sessionId(), verified.userId());
+                log.info("User logged out - session {} revoked", verified.sessionId());
+            } else {
+                tokenRevocationStore.revoke(verified);
+                log.info("User logged out - token {} revoked", verified.jti());
+            }
+        });
     }
 
 }
@@ -1,23 +1,42 @@
 package com.taskmanagement.userservice.application.service;
 
 import com.taskmanagement.userservice.application.dto.SendEmailResetRequest;
+import com.taskmanagement.userservice.domain.entity.EmailOutboxMessage;
+import com.taskmanagement.userservice.domain.repository.EmailOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+/**
+ * EmailServiceImpl: Queue emails in the transactional outbox
+ * - The row is written in the caller's transaction: rolled back together with the business change
+ * - EmailOutboxRelay delivers it in the background, the request never waits for SMTP
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService{
 
+    private static final String PASSWORD_RESET_SUBJECT = "Reset your password";
+
+    private final EmailOutboxRepository outboxRepository;
+
     @Override
     public void sendPasswordResetEmail(SendEmailResetRequest request) {
-        // Implementation for sending password reset email
+        String body = """
+                We received a request to reset your password.
+
+                Use the link below to choose a new password:
+                %s
+
+                If you did not request this, you can ignore this email.
+                """.formatted(request.getResetLink());
 
-        log.info("=================================");
-        log.info("PASSWORD RESET EMAIL");
-        log.info("To: {}", request.getEmail());
-        log.info("Reset Link: {}", request.getResetLink());
-        log.info("=================================");
+        EmailOutboxMessage message = outboxRepository.save(EmailOutboxMessage.builder()
+                .recipient(request.getEmail())
+                .subject(PASSWORD_RESET_SUBJECT)
+                .body(body)
+                .build());
+        log.debug("Password reset email queued in outbox: {}", message.getId());
     }
 }
@@ -0,0 +1,15 @@
+package com.taskmanagement.userservice.application.service;
+
+import com.taskmanagement.userservice.application.utils.VerifiedToken;
+import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+
+import java.util.UUID;
+
+public interface RefreshTokenService {
+
+    String issue(CustomUserDetails userDetails, UUID familyId);
+    void consume(String rawToken, VerifiedToken refreshToken);
+    void revokeFamily(UUID familyId, UUID userId);
+    void revokeAllForUser(UUID userId);
+    void cleanupExpiredTokens();
+}
@@ -0,0 +1,87 @@
+package com.taskmanagement.userservice.application.service;
+
+import com.taskmanagement.userservice.application.utils.JwtUtil;
+import com.taskmanagement.userservice.application.utils.TokenHashing;
+import com.taskmanagement.userservice.application.utils.VerifiedToken;
+import com.taskmanagement.userservice.domain.entity.RefreshToken;
+import com.taskmanagement.userservice.domain.exception.InvalidRefreshTokenException;
+import com.taskmanagement.userservice.domain.repository.RefreshTokenRepository;
+import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import com.taskmanagement.userservice.infrastructure.security.TokenRevocationStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * RefreshTokenServiceImpl: Server-tracked refresh-token families
+ * - One family per login ("sid" claim), only the SHA-256 of each token is stored
+ * - Every refresh consumes the presented token (single-use) and issues the next one in the family
+ * - A token presented twice means it was copied: the whole family and its access tokens are revoked
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public String issue(CustomUserDetails userDetails, UUID familyId) {
+        String token = jwtUtil.generateRefreshToken(userDetails, familyId);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .familyId(familyId)
+                .userId(userDetails.getId())
+                .tokenHash(TokenHashing.sha256(token))
+                .expiresAt(Instant.now().plus(jwtUtil.refreshTokenLifetime()))
+                .build());
+        return token;
+    }
+
+    /*
+    Runs in the caller's transaction (AuthServiceImpl.refreshToken): the token is only spent
+    once its successor is stored. The caller must not roll back on InvalidRefreshTokenException,
+    the family revocation has to stick even though the client gets an error
+     */
+    @Override
+    public void consume(String rawToken, VerifiedToken refreshToken) {
+        if (refreshToken.sessionId() == null) {
+            // issued before families existed, can't be tracked -> client logs in again
+            throw new InvalidRefreshTokenException("Refresh token is no longer supported, please log in again");
+        }
+        Instant now = Instant.now();
+        if (refreshTokenRepository.markUsed(TokenHashing.sha256(rawToken), now) == 1) {
+            return;
+        }
+        // signed and unexpired but not consumable: already used, or its family was revoked
+        log.warn("Refresh token reuse detected for user {} - revoking session {}",
+                refreshToken.userId(), refreshToken.sessionId());
+        revokeFamily(refreshToken.sessionId(), refreshToken.userId());
+        throw new InvalidRefreshTokenException("Refresh token has already been used");
+    }
+
+    @Override
+    public void revokeFamily(UUID familyId, UUID userId) {
+        Instant now = Instant.now();
+        refreshTokenRepository.revokeFamily(familyId, now);
+        tokenRevocationStore.revokeSession(familyId, userId, now);
+    }
+
+    @Override
+    public void revokeAllForUser(UUID userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId, Instant.now());
+        log.debug("Revoked {} refresh tokens of user {}", revoked, userId);
+    }
+
+    @Override
+    @Scheduled(cron = "0 30 * * * ?") // Runs every hour, offset from reset-token cleanup
+    public void cleanupExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        log.debug("Deleted {} expired refresh tokens", deleted);
+    }
+}
@@ -3,6 +3,8 @@ package com.taskmanagement.userservice.application.service;
 import com.taskmanagement.userservice.application.dto.PasswordResetTokenRequest;
 import com.taskmanagement.userservice.application.dto.ResetPasswordRequest;
 import com.taskmanagement.userservice.application.dto.SendEmailResetRequest;
+import com.taskmanagement.userservice.application.utils.TokenHashing;
+import com.taskmanagement.userservice.application.utils.TransactionCallbacks;
 import com.taskmanagement.userservice.domain.entity.PasswordResetToken;
 import com.taskmanagement.userservice.domain.entity.User;
 import com.taskmanagement.userservice.domain.exception.ResetTokenExpiredOrUsedException;
@@ -10,6 +12,8 @@ import com.taskmanagement.userservice.domain.exception.ResetTokenNotFoundExcepti
 import com.taskmanagement.userservice.domain.exception.UserNotFoundException;
 import com.taskmanagement.userservice.domain.repository.PasswordResetTokenRepository;
 import com.taskmanagement.userservice.domain.repository.UserRepository;
+import com.taskmanagement.userservice.infrastructure.persistence.ReadYourWritesTracker;
+import com.taskmanagement.userservice.infrastructure.security.AuthMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,6 +34,9 @@ public class ResetPasswordServiceImpl implements ResetPasswordService{
     @Value("${app.frontend.base-url}")
     private String frontendBaseUrl;
 
+    @Value("${app.password-reset.cleanup-batch-size:1000}")
+    private int cleanupBatchSize;
+
     private static final int TOKEN_LENGTH = 32;
     private static final int TOKEN_EXPIRATION_MINUTES = 15;
 
@@ -38,10 +45,11 @@ public class ResetPasswordServiceImpl implements ResetPasswordService{
     private final EmailService emailService;
 
     private final PasswordEncoder passwordEncoder;
+    private final AuthMetrics authMetrics;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     @Override
     @Transactional
-//    @RateLimiter(name = "passwordResetLimiter", limit = 5, duration = 60)
     public void createPasswordResetToken(PasswordResetTokenRequest request) {
         String email = request.email();
         User user = userRepository.findByEmail(email).orElse(null);
@@ -54,25 +62,20 @@ public class ResetPasswordServiceImpl implements ResetPasswordService{
             LocalDateTime expiry = LocalDateTime.now().plusMinutes(TOKEN_EXPIRATION_MINUTES);
             PasswordResetToken resetToken = PasswordResetToken.builder()
                     .userId(user.getId())
-                    .token(token)
+                    .tokenHash(TokenHashing.sha256(token))
                     .expiryAt(expiry)
                     .used(false)
                     .build();
             passwordResetRepository.save(resetToken);
+            authMetrics.resetTokenCreated();
 
             String resetLink = frontendBaseUrl + "/reset/confirm?token=" + token;
             emailService.sendPasswordResetEmail(
                     new SendEmailResetRequest(email, resetLink)
             );
         } else {
+            // response timing is equalized by the controller (ResponseEqualizer), nothing to wait for here
             log.info("Password reset requested for non-existing email");
-            // Want response equalization? Consider doing it at the edge (gateway) or use a small async delay.
-            try {
-                Thread.sleep(1000); // Simulate processing time
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("Timing defense interrupted for non-existent email");
-            }
         }
     }
 
@@ -80,7 +83,7 @@ public class ResetPasswordServiceImpl implements ResetPasswordService{
     @Transactional
     public void resetPassword(ResetPasswordRequest request) {
         String token = request.token();
-        PasswordResetToken resetToken = passwordResetRepository.findByToken(token)
+        PasswordResetToken resetToken = passwordResetRepository.findByTokenHash(TokenHashing.sha256(token))
                 .orElseThrow( () -> new ResetTokenNotFoundException("Invalid password reset token"));
         if(resetToken.isUsed() || resetToken.getExpiryAt().isBefore(LocalDateTime.now())){
             throw new ResetTokenExpiredOrUsedException("Password reset token is either used or expired");
@@ -89,15 +92,30 @@ public class ResetPasswordServiceImpl implements ResetPasswordService{
                 .orElseThrow(() -> new UserNotFoundException("User's token not found"));
         user.setPassword(passwordEncoder.encode(request.newPassword()));
         userRepository.save(user);
+        // the login right after the reset must not check the old hash on a lagging replica
+        TransactionCallbacks.afterCommit(() ->
+                readYourWritesTracker.markWrite(ReadYourWritesTracker.emailKey(user.getEmail())));
 
         resetToken.setUsed(true);
         passwordResetRepository.save(resetToken);
     }
 
+    /*
+    Not transactional: every chunk commits on its own, so locks and memory stay bounded
+    however many tokens expired since the last run
+     */
     @Override
     @Scheduled(cron = "0 0 * * * ?") // Runs every hour
     public void cleanupExpiredTokens() {
-        passwordResetRepository.deleteByExpiryAtBefore(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        int deleted;
+        int total = 0;
+        do {
+            deleted = passwordResetRepository.deleteExpiredBatch(now, cleanupBatchSize);
+            total += deleted;
+        } while (deleted > 0 && deleted >= cleanupBatchSize);
+        authMetrics.resetTokensPurged(total);
+        log.debug("Deleted {} expired password reset tokens", total);
     }
 
     private String generateSecureToken(){
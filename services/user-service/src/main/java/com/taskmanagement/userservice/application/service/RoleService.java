@@ -0,0 +1,10 @@
+package com.taskmanagement.userservice.application.service;
+
+import com.taskmanagement.userservice.application.dto.RoleResponse;
+
+import java.util.List;
+
+public interface RoleService {
+
+    List<RoleResponse> getAllRoles();
+}
@@ -0,0 +1,38 @@
+package com.taskmanagement.userservice.application.service;
+
+import com.taskmanagement.userservice.application.dto.RoleResponse;
+import com.taskmanagement.userservice.infrastructure.security.RbacRegistry;
+import com.taskmanagement.userservice.infrastructure.security.RbacSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Role reads are served from the in-memory RBAC snapshot, no DB round trip
+ */
+@Service
+@RequiredArgsConstructor
+public class RoleServiceImpl implements RoleService {
+
+    private final RbacRegistry rbacRegistry;
+
+    @Override
+    public List<RoleResponse> getAllRoles() {
+        return rbacRegistry.current().roles().stream()
+                .map(RoleServiceImpl::toResponse)
+                .toList();
+    }
+
+    private static RoleResponse toResponse(RbacSnapshot.RoleGrant role) {
+        return RoleResponse.builder()
+                .id(role.id())
+                .name(role.name())
+                .description(role.description())
+                .permissions(role.permissions().stream()
+                        .map(permission -> permission.getResource() + ":" + permission.getAction())
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+}
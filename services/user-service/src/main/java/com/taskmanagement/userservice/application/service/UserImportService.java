@@ -0,0 +1,11 @@
+package com.taskmanagement.userservice.application.service;
+
+import com.taskmanagement.userservice.application.dto.BulkImportResponse;
+import com.taskmanagement.userservice.application.utils.UserImportReader;
+
+import java.io.InputStream;
+
+public interface UserImportService {
+
+    BulkImportResponse importUsers(InputStream inputStream, UserImportReader.Format format);
+}
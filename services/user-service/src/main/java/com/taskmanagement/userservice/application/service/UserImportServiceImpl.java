@@ -0,0 +1,196 @@
+package com.taskmanagement.userservice.application.service;
+
+import com.taskmanagement.userservice.application.dto.BulkImportError;
+import com.taskmanagement.userservice.application.dto.BulkImportResponse;
+import com.taskmanagement.userservice.application.dto.ImportUserRecord;
+import com.taskmanagement.userservice.application.utils.UserImportReader;
+import com.taskmanagement.userservice.domain.exception.RoleNotFoundException;
+import com.taskmanagement.userservice.domain.projection.ImportedUser;
+import com.taskmanagement.userservice.domain.repository.UserImportRepository;
+import com.taskmanagement.userservice.infrastructure.persistence.UuidV7;
+import com.taskmanagement.userservice.infrastructure.security.PasswordHashingEngine;
+import com.taskmanagement.userservice.infrastructure.security.RbacRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk user import (admin onboarding)
+ * - Input is read chunk by chunk, memory is bounded by chunk-size whatever the file size
+ * - Per chunk: validate, drop duplicates (in chunk + already in DB), hash in parallel,
+ *   then one transaction of JDBC batch inserts (users, profiles, user_roles)
+ * - A failing row is reported with its row number and never aborts the import;
+ *   if a chunk transaction fails it is retried row by row to isolate the culprit
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final String DEFAULT_ROLE = "USER";
+
+    private final UserImportRepository userImportRepository;
+    private final PasswordHashingEngine passwordHashingEngine;
+    private final RbacRegistry rbacRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    @Value("${app.user-import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.user-import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Override
+    public BulkImportResponse importUsers(InputStream inputStream, UserImportReader.Format format) {
+        UUID roleId = rbacRegistry.current().role(DEFAULT_ROLE)
+                .orElseThrow(() -> new RoleNotFoundException("Default role USER not found"))
+                .id();
+        ImportResult result = new ImportResult(maxReportedErrors);
+
+        try (UserImportReader reader = new UserImportReader(inputStream, format)) {
+            List<UserImportReader.Row> chunk = new ArrayList<>(chunkSize);
+            UserImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                result.total++;
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, roleId, result);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, roleId, result);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to close import stream", ex);
+        }
+
+        log.info("User import finished: {} rows, {} imported, {} failed", result.total, result.imported, result.failed);
+        return new BulkImportResponse(result.total, result.imported, result.failed,
+                result.errors, result.failed > result.errors.size());
+    }
+
+    private void importChunk(List<UserImportReader.Row> rows, UUID roleId, ImportResult result) {
+        List<UserImportReader.Row> valid = new ArrayList<>(rows.size());
+        Set<String> emailsInChunk = new HashSet<>();
+        for (UserImportReader.Row row : rows) {
+            String error = validate(row);
+            if (error == null && !emailsInChunk.add(row.record().email())) {
+                error = "Duplicate email in import";
+            }
+            if (error != null) {
+                result.fail(row.row(), row.record() != null ? row.record().email() : null, error);
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = userImportRepository.findExistingEmails(emailsInChunk);
+        List<UserImportReader.Row> fresh = new ArrayList<>(valid.size());
+        for (UserImportReader.Row row : valid) {
+            if (existing.contains(row.record().email())) {
+                result.fail(row.row(), row.record().email(), "Email is already existed");
+            } else {
+                fresh.add(row);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        // before the transaction: hashing is the slow part, no connection held meanwhile
+        List<String> hashes = passwordHashingEngine.encodeAll(
+                fresh.stream().map(row -> row.record().password()).toList());
+        List<ImportedUser> users = new ArrayList<>(fresh.size());
+        for (int i = 0; i < fresh.size(); i++) {
+            ImportUserRecord record = fresh.get(i).record();
+            users.add(new ImportedUser(fresh.get(i).row(), UuidV7.generate(), UuidV7.generate(),
+                    record.email(), hashes.get(i), record.firstName(), record.lastName()));
+        }
+
+        try {
+            boolean[] inserted = transactionTemplate.execute(status -> userImportRepository.insertAll(users, roleId));
+            collect(users, inserted, result);
+        } catch (DataAccessException ex) {
+            log.warn("Import chunk of {} rows failed ({}), retrying row by row", users.size(), ex.getMessage());
+            for (ImportedUser user : users) {
+                insertOne(user, roleId, result);
+            }
+        }
+    }
+
+    private void insertOne(ImportedUser user, UUID roleId, ImportResult result) {
+        try {
+            boolean[] inserted = transactionTemplate.execute(status -> userImportRepository.insertAll(List.of(user), roleId));
+            collect(List.of(user), inserted, result);
+        } catch (DataAccessException ex) {
+            result.fail(user.row(), user.email(), "Could not be stored");
+        }
+    }
+
+    private static void collect(List<ImportedUser> users, boolean[] inserted, ImportResult result) {
+        for (int i = 0; i < users.size(); i++) {
+            if (inserted != null && inserted[i]) {
+                result.imported++;
+            } else {
+                result.fail(users.get(i).row(), users.get(i).email(), "Email is already existed");
+            }
+        }
+    }
+
+    private String validate(UserImportReader.Row row) {
+        if (row.error() != null) {
+            return row.error();
+        }
+        Set<ConstraintViolation<ImportUserRecord>> violations = validator.validate(row.record());
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /*
+    Running totals of one import, only the first <maxReportedErrors> errors are kept
+     */
+    private static final class ImportResult {
+
+        private final int maxReportedErrors;
+        private final List<BulkImportError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private ImportResult(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(long row, String email, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new BulkImportError(row, email, message));
+            }
+        }
+    }
+}
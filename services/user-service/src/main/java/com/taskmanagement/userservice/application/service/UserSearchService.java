@@ -0,0 +1,8 @@
+package com.taskmanagement.userservice.application.service;
+
+import com.taskmanagement.userservice.application.dto.UserSearchResponse;
+
+public interface UserSearchService {
+
+    UserSearchResponse searchUsers(String search, String role, String cursor, int size);
+}
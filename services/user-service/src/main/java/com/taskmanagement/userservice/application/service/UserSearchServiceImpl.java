@@ -0,0 +1,58 @@
+package com.taskmanagement.userservice.application.service;
+
+import com.taskmanagement.userservice.application.dto.UserSearchResponse;
+import com.taskmanagement.userservice.application.dto.UserSummaryResponse;
+import com.taskmanagement.userservice.application.utils.SearchCursor;
+import com.taskmanagement.userservice.domain.exception.RoleNotFoundException;
+import com.taskmanagement.userservice.domain.projection.UserSearchRow;
+import com.taskmanagement.userservice.domain.repository.UserSearchRepository;
+import com.taskmanagement.userservice.infrastructure.security.RbacRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * User listing / search, keyset pagination (newest first)
+ * One row more than the page size is fetched to know whether a next page exists,
+ * the cursor points at the last returned row
+ */
+@Service
+@RequiredArgsConstructor
+public class UserSearchServiceImpl implements UserSearchService {
+
+    private final UserSearchRepository userSearchRepository;
+    private final RbacRegistry rbacRegistry;
+
+    @Value("${app.user-search.max-page-size:100}")
+    private int maxPageSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSearchResponse searchUsers(String search, String role, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, maxPageSize);
+        String term = search == null || search.isBlank() ? null : search.trim();
+        // role name -> id from the RBAC snapshot, no lookup query
+        UUID roleId = role == null || role.isBlank() ? null : rbacRegistry.current().role(role.trim())
+                .orElseThrow(() -> new RoleNotFoundException("Role " + role + " not found"))
+                .id();
+        SearchCursor after = cursor == null || cursor.isBlank() ? null : SearchCursor.decode(cursor);
+
+        List<UserSearchRow> rows = userSearchRepository.search(term, roleId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<UserSearchRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            UserSearchRow last = page.get(page.size() - 1);
+            nextCursor = new SearchCursor(last.createdAt(), last.id()).encode();
+        }
+        return new UserSearchResponse(page.stream().map(UserSummaryResponse::from).toList(), nextCursor);
+    }
+}
@@ -1,9 +1,11 @@
 package com.taskmanagement.userservice.application.service;
 
+import com.taskmanagement.userservice.application.dto.BatchProfileResponse;
 import com.taskmanagement.userservice.application.dto.ChangePasswordRequest;
 import com.taskmanagement.userservice.application.dto.UpdateProfileRequest;
 import com.taskmanagement.userservice.application.dto.UserProfileResponse;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface UserService {
@@ -13,4 +15,5 @@ public interface UserService {
     UserProfileResponse getUserProfileById(UUID userId);
     UserProfileResponse updateUserProfile(UpdateProfileRequest request);
     UserProfileResponse updateUserProfileById(UUID userId, UpdateProfileRequest request);
+    BatchProfileResponse getProfilesByUserIds(List<UUID> userIds);
 }
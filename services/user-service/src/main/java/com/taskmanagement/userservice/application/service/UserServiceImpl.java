@@ -1,24 +1,42 @@
 package com.taskmanagement.userservice.application.service;
 
+import com.taskmanagement.userservice.application.dto.BatchProfileResponse;
 import com.taskmanagement.userservice.application.dto.ChangePasswordRequest;
+import com.taskmanagement.userservice.application.dto.ProfileSummaryResponse;
 import com.taskmanagement.userservice.application.dto.UpdateProfileRequest;
 import com.taskmanagement.userservice.application.dto.UserProfileResponse;
+import com.taskmanagement.userservice.application.utils.TransactionCallbacks;
+import com.taskmanagement.userservice.application.utils.UserProfileCache;
+import com.taskmanagement.userservice.application.utils.UserProfileLoader;
 import com.taskmanagement.userservice.domain.entity.Profile;
 import com.taskmanagement.userservice.domain.entity.User;
+import com.taskmanagement.userservice.domain.exception.BatchLimitExceededException;
 import com.taskmanagement.userservice.domain.exception.InvalidPasswordException;
 import com.taskmanagement.userservice.domain.exception.ProfileNotFoundException;
 import com.taskmanagement.userservice.domain.exception.UnauthorizedException;
 import com.taskmanagement.userservice.domain.exception.UserNotFoundException;
+import com.taskmanagement.userservice.domain.projection.ProfileSummaryRow;
 import com.taskmanagement.userservice.domain.repository.ProfileRepository;
 import com.taskmanagement.userservice.domain.repository.UserRepository;
+import com.taskmanagement.userservice.infrastructure.persistence.ReadYourWritesTracker;
+import com.taskmanagement.userservice.infrastructure.security.AuthoritySnapshotCache;
 import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import com.taskmanagement.userservice.infrastructure.security.TokenRevocationStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -29,20 +47,28 @@ public class UserServiceImpl implements UserService {
     private final ProfileRepository profileRepository;
 
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthoritySnapshotCache authoritySnapshotCache;
+    private final UserProfileCache userProfileCache;
+    private final UserProfileLoader userProfileLoader;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
+    @Value("${app.profiles.batch.max-ids:200}")
+    private int maxBatchIds;
+
+    /*
+    No transaction here: a cache hit must not check out a connection,
+    UserProfileLoader opens the read-only one on a miss
+     */
     @Override
     public UserProfileResponse getCurrentUserProfile() {
-        UUID userId = getUuid();
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-        Profile profile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ProfileNotFoundException("Profile not found"));
-        return UserProfileResponse.from(user,profile);
+        return userProfileCache.get(getUuid(), userProfileLoader::load);
     }
 
     /**
-     * Change user password. Old tokens remain valid until expiration (stateless JWT).
-     * For token invalidation strategy, see docs/plan/token-invalidation-strategy.md
+     * Change user password. Every token issued before the change is revoked
+     * (user-wide cutoff in TokenRevocationStore + all refresh-token families), the client must log in again.
      */
     @Override
     @Transactional
@@ -61,40 +87,68 @@ public class UserServiceImpl implements UserService {
         }
         user.setPassword(passwordEncoder.encode(request.newPassword()));
         userRepository.save(user);
+        // rows roll back with the password update, the in-memory denylist / snapshot change only after commit
+        tokenRevocationStore.revokeAllForUser(uuid, Instant.now());
+        refreshTokenService.revokeAllForUser(uuid);
+        TransactionCallbacks.afterCommit(() -> {
+            authoritySnapshotCache.invalidate(uuid);
+            // next login by email must check the new hash on the primary
+            readYourWritesTracker.markWrite(ReadYourWritesTracker.emailKey(user.getEmail()));
+        });
     }
 
     @Override
     public UserProfileResponse getUserProfileById(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-        Profile profile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ProfileNotFoundException("Profile not found"));
-        return UserProfileResponse.from(user,profile);
+        return userProfileCache.get(userId, userProfileLoader::load);
+    }
+
+    /**
+     * Many profiles in one query (service-to-service, e.g. task assignees), ids deduplicated,
+     * ids without a profile are listed in "missing" instead of failing the call
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BatchProfileResponse getProfilesByUserIds(List<UUID> userIds) {
+        Set<UUID> requested = new LinkedHashSet<>();
+        for (UUID userId : userIds) {
+            if (userId != null) {
+                requested.add(userId);
+            }
+        }
+        if (requested.size() > maxBatchIds) {
+            throw new BatchLimitExceededException("At most " + maxBatchIds + " user ids per call");
+        }
+        if (requested.isEmpty()) {
+            return new BatchProfileResponse(List.of(), List.of());
+        }
+
+        Map<UUID, ProfileSummaryResponse> found = new HashMap<>();
+        for (ProfileSummaryRow row : profileRepository.findSummariesByUserIdIn(requested)) {
+            found.put(row.userId(), ProfileSummaryResponse.from(row));
+        }
+        List<ProfileSummaryResponse> profiles = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID userId : requested) {
+            ProfileSummaryResponse profile = found.get(userId);
+            if (profile != null) {
+                profiles.add(profile);
+            } else {
+                missing.add(userId);
+            }
+        }
+        return new BatchProfileResponse(profiles, missing);
     }
 
     @Override
     @Transactional
     public UserProfileResponse updateUserProfile(UpdateProfileRequest request) {
-        UUID userId = getUuid();
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-        Profile profile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ProfileNotFoundException("Profile not found"));
-        updateProfileFields(profile,request);
-        profileRepository.save(profile);
-        return UserProfileResponse.from(user,profile);
+        return updateProfile(getUuid(), request);
     }
 
     @Override
     @Transactional
     public UserProfileResponse updateUserProfileById(UUID userId, UpdateProfileRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-        Profile profile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ProfileNotFoundException("Profile not found"));
-        updateProfileFields(profile,request);
-        profileRepository.save(profile);
-        return UserProfileResponse.from(user,profile);
+        return updateProfile(userId, request);
     }
 
 
@@ -115,6 +169,18 @@ public class UserServiceImpl implements UserService {
         return userDetails.getId();
     }
 
+    private UserProfileResponse updateProfile(UUID userId, UpdateProfileRequest request) {
+        Profile profile = profileRepository.findByUserId(userId)
+                .orElseThrow(() -> new ProfileNotFoundException("Profile not found"));
+        updateProfileFields(profile,request);
+        profileRepository.save(profile);
+        userProfileCache.invalidate(userId);
+        // marked before the re-eviction after commit: the next miss reads the primary, not a lagging replica
+        TransactionCallbacks.afterCommit(() -> readYourWritesTracker.markWrite(ReadYourWritesTracker.userKey(userId)));
+        // the query flushes the pending update first, response reflects the new values
+        return userProfileLoader.load(userId);
+    }
+
     private void updateProfileFields(Profile profile, UpdateProfileRequest request){
         if(request.firstName() != null) profile.setFirstName(request.firstName());
         if(request.lastName() != null) profile.setLastName(request.lastName());
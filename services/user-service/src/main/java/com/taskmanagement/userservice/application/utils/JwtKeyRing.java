@@ -0,0 +1,333 @@
+package com.taskmanagement.userservice.application.utils;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * JwtKeyRing: Signing and verification keys selected by "kid"
+ * - HS256: single shared secret from jwt.secret (legacy, nothing published in JWKS)
+ * - RS256 / EdDSA: key pairs loaded from jwt.keys.directory
+ *     <kid>.key  PKCS#8 private key (PEM)  -> can sign
+ *     <kid>.pub  X.509 public key (PEM)    -> verify + published in JWKS
+ * - Rotation: a new pair is published in JWKS as soon as it is found, but only becomes
+ *   the signing key after jwt.keys.publish-ahead, so downstream services already cached it.
+ *   Retired keys keep verifying while their .pub file stays in the directory.
+ * - Snapshot is immutable and swapped atomically on reload, lookups never block
+ */
+@Slf4j
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private static final String PRIVATE_SUFFIX = ".key";
+    private static final String PUBLIC_SUFFIX = ".pub";
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @Value("${jwt.signing.algorithm:HS256}")
+    private String algorithm;
+
+    @Value("${jwt.keys.directory:}")
+    private String keysDirectory;
+
+    @Value("${jwt.keys.active-kid:}")
+    private String configuredActiveKid;
+
+    @Value("${jwt.keys.publish-ahead:PT10M}")
+    private Duration publishAhead;
+
+    private volatile Snapshot snapshot;
+
+    /*
+    Ephemeral key generated when no directory is configured (local dev only)
+    kept so reloads don't invalidate tokens already issued by this instance
+     */
+    private Snapshot ephemeral;
+
+    @PostConstruct
+    void init() {
+        this.snapshot = load();
+        log.info("JWT key ring loaded: algorithm={}, activeKid={}, verificationKids={}",
+                algorithm, snapshot.activeKid(), snapshot.verificationKeys().keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval:PT5M}",
+            initialDelayString = "${jwt.keys.reload-interval:PT5M}")
+    public void reload() {
+        if (isSymmetric() || !StringUtils.hasText(keysDirectory)) {
+            return;
+        }
+        try {
+            Snapshot reloaded = load();
+            if (!reloaded.activeKid().equals(snapshot.activeKid())
+                    || !reloaded.verificationKeys().keySet().equals(snapshot.verificationKeys().keySet())) {
+                log.info("JWT key ring rotated: activeKid={}, verificationKids={}",
+                        reloaded.activeKid(), reloaded.verificationKeys().keySet());
+            }
+            this.snapshot = reloaded;
+        } catch (RuntimeException ex) {
+            // keep serving with the previous keys rather than failing every request
+            log.error("Failed to reload JWT key ring, keeping previous keys: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Kid and key read from the same snapshot, so a concurrent rotation can't mix them
+     */
+    public ActiveKey activeKey() {
+        Snapshot current = snapshot;
+        return new ActiveKey(current.activeKid(), current.signingKey());
+    }
+
+    /**
+     * Public keys in JWK format, ready to be serialized as {"keys": [...]}
+     */
+    public List<Map<String, Object>> publicJwks() {
+        return snapshot.jwks();
+    }
+
+    /*
+    Called by the JwtParser for every token, O(1) map lookup on an immutable snapshot
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        Snapshot current = snapshot;
+        String kid = header.getKeyId();
+        if (kid == null) {
+            // tokens issued before kid headers existed were signed with the shared secret
+            if (current.legacyKey() != null) {
+                return current.legacyKey();
+            }
+            throw new SecurityException("JWT has no key id");
+        }
+        Key key = current.verificationKeys().get(kid);
+        if (key == null) {
+            throw new SecurityException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    private boolean isSymmetric() {
+        return "HS256".equalsIgnoreCase(algorithm);
+    }
+
+    private Snapshot load() {
+        if (isSymmetric()) {
+            Key secret = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+            String kid = "hs256";
+            return new Snapshot(kid, secret, Map.of(kid, secret), Collections.emptyList(), secret);
+        }
+        if (!StringUtils.hasText(keysDirectory)) {
+            if (ephemeral == null) {
+                log.warn("jwt.keys.directory is not set, generating an ephemeral {} key pair. "
+                        + "Tokens will not survive a restart and cannot be shared between instances", algorithm);
+                ephemeral = ephemeralSnapshot();
+            }
+            return ephemeral;
+        }
+        return loadDirectory(Path.of(keysDirectory));
+    }
+
+    private Snapshot loadDirectory(Path directory) {
+        Map<String, PrivateKey> privateKeys = new TreeMap<>();
+        Map<String, Instant> privateKeysSeenAt = new TreeMap<>();
+        Map<String, PublicKey> publicKeys = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(PRIVATE_SUFFIX)) {
+                    String kid = name.substring(0, name.length() - PRIVATE_SUFFIX.length());
+                    privateKeys.put(kid, readPrivateKey(file));
+                    privateKeysSeenAt.put(kid, Files.getLastModifiedTime(file).toInstant());
+                } else if (name.endsWith(PUBLIC_SUFFIX)) {
+                    String kid = name.substring(0, name.length() - PUBLIC_SUFFIX.length());
+                    publicKeys.put(kid, readPublicKey(file));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read JWT keys from " + directory, e);
+        }
+
+        String activeKid = selectActiveKid(privateKeys.keySet(), privateKeysSeenAt);
+        if (!publicKeys.containsKey(activeKid)) {
+            throw new IllegalStateException("Active JWT key " + activeKid + " has no " + PUBLIC_SUFFIX + " file");
+        }
+        return new Snapshot(
+                activeKid,
+                privateKeys.get(activeKid),
+                Collections.unmodifiableMap(new LinkedHashMap<>(publicKeys)),
+                toJwks(publicKeys),
+                null
+        );
+    }
+
+    /*
+    Explicit jwt.keys.active-kid wins, otherwise the newest (greatest) kid that has been
+    published for at least publish-ahead. Falls back to the greatest kid on first bootstrap.
+     */
+    private String selectActiveKid(Set<String> signingKids, Map<String, Instant> seenAt) {
+        if (signingKids.isEmpty()) {
+            throw new IllegalStateException("No " + PRIVATE_SUFFIX + " signing key found in " + keysDirectory);
+        }
+        if (StringUtils.hasText(configuredActiveKid)) {
+            if (!signingKids.contains(configuredActiveKid)) {
+                throw new IllegalStateException("Configured active JWT key " + configuredActiveKid + " not found");
+            }
+            return configuredActiveKid;
+        }
+        Instant publishedBefore = Instant.now().minus(publishAhead);
+        String fallback = null;
+        String active = null;
+        for (String kid : signingKids) { // TreeMap key set -> ascending order
+            fallback = kid;
+            if (!seenAt.get(kid).isAfter(publishedBefore)) {
+                active = kid;
+            }
+        }
+        // keep signing with the current key while a newer one is still being published
+        if (snapshot != null && active != null && signingKids.contains(snapshot.activeKid())
+                && snapshot.activeKid().compareTo(active) > 0) {
+            return snapshot.activeKid();
+        }
+        return active != null ? active : fallback;
+    }
+
+    private Snapshot ephemeralSnapshot() {
+        try {
+            KeyPairGenerator generator;
+            if ("EdDSA".equalsIgnoreCase(algorithm)) {
+                generator = KeyPairGenerator.getInstance("Ed25519");
+            } else {
+                generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+            }
+            KeyPair pair = generator.generateKeyPair();
+            String kid = "ephemeral-" + Instant.now().getEpochSecond();
+            return new Snapshot(kid, pair.getPrivate(), Map.of(kid, pair.getPublic()),
+                    toJwks(Map.of(kid, pair.getPublic())), null);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate " + algorithm + " key pair", e);
+        }
+    }
+
+    private PrivateKey readPrivateKey(Path file) {
+        try {
+            byte[] der = readPem(file);
+            return keyFactory().generatePrivate(new PKCS8EncodedKeySpec(der));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid private key " + file, e);
+        }
+    }
+
+    private PublicKey readPublicKey(Path file) {
+        try {
+            byte[] der = readPem(file);
+            return keyFactory().generatePublic(new X509EncodedKeySpec(der));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid public key " + file, e);
+        }
+    }
+
+    private KeyFactory keyFactory() throws GeneralSecurityException {
+        return KeyFactory.getInstance("EdDSA".equalsIgnoreCase(algorithm) ? "Ed25519" : "RSA");
+    }
+
+    private static byte[] readPem(Path file) {
+        try {
+            String pem = Files.readString(file, StandardCharsets.US_ASCII)
+                    .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                    .replaceAll("\\s", "");
+            return Base64.getDecoder().decode(pem);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read key file " + file, e);
+        }
+    }
+
+    private static List<Map<String, Object>> toJwks(Map<String, PublicKey> publicKeys) {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        publicKeys.forEach((kid, key) -> jwks.add(toJwk(kid, key)));
+        return Collections.unmodifiableList(jwks);
+    }
+
+    private static Map<String, Object> toJwk(String kid, PublicKey key) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (key instanceof RSAPublicKey rsa) {
+            int bits = rsa.getModulus().bitLength();
+            jwk.put("kty", "RSA");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            // same rule jjwt uses when picking the algorithm from the key size
+            jwk.put("alg", bits >= 4096 ? "RS512" : bits >= 3072 ? "RS384" : "RS256");
+            jwk.put("n", encoder.encodeToString(unsigned(rsa.getModulus())));
+            jwk.put("e", encoder.encodeToString(unsigned(rsa.getPublicExponent())));
+        } else {
+            // Ed25519 X.509 encoding = 12 byte algorithm prefix + 32 byte raw public key
+            byte[] encoded = key.getEncoded();
+            byte[] raw = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", "EdDSA");
+            jwk.put("x", encoder.encodeToString(raw));
+        }
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            return Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return bytes;
+    }
+
+    public record ActiveKey(String kid, Key key) {
+    }
+
+    private record Snapshot(
+            String activeKid,
+            Key signingKey,
+            Map<String, Key> verificationKeys,
+            List<Map<String, Object>> jwks,
+            Key legacyKey
+    ) {
+    }
+}
@@ -1,14 +1,15 @@
 package com.taskmanagement.userservice.application.utils;
 
 import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import com.taskmanagement.userservice.infrastructure.security.PermissionMask;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import javax.crypto.SecretKey;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
@@ -20,13 +21,15 @@ import org.springframework.stereotype.Component;
  * - Generate token (access and refresh)
  * - Validate token
  * - Extract claims from token
+ * Parser is built once at startup and reused (thread-safe), keys come from JwtKeyRing
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtKeyRing keyRing;
 
     @Value("${jwt.expiration}")
     private Long expiration;
@@ -34,8 +37,26 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration;
 
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        // key is resolved per token from its "kid" header, so rotation needs no parser rebuild
+        this.jwtParser = Jwts.parser().keyLocator(keyRing).build();
+    }
+
     public String generateToken(CustomUserDetails userDetails) {
+        return generateToken(userDetails, null);
+    }
+
+    /**
+     * Access token bound to a login session (refresh-token family), "sid" claim
+     */
+    public String generateToken(CustomUserDetails userDetails, UUID sessionId) {
         Map<String, Object> claims = new HashMap<>();
+        if (sessionId != null) {
+            claims.put("sid", sessionId.toString());
+        }
         claims.put("userId", userDetails.getId().toString());
         claims.put("email", userDetails.getEmail());
 
@@ -47,6 +68,10 @@ public class JwtUtil {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList())
         );
+        // Resource x Action permissions as one int instead of a "RESOURCE:ACTION" string each
+        if (userDetails.getPermissions() != PermissionMask.NONE) {
+            claims.put(PermissionMask.CLAIM, userDetails.getPermissions());
+        }
 
         claims.put("tokenType","ACCESS");
 
@@ -54,7 +79,14 @@ public class JwtUtil {
     }
 
     public String generateRefreshToken(CustomUserDetails userDetails) {
+        return generateRefreshToken(userDetails, null);
+    }
+
+    public String generateRefreshToken(CustomUserDetails userDetails, UUID sessionId) {
         Map<String, Object> claims = new HashMap<>();
+        if (sessionId != null) {
+            claims.put("sid", sessionId.toString());
+        }
         claims.put("userId", userDetails.getId().toString());
         claims.put("email", userDetails.getEmail());
 
@@ -66,6 +98,10 @@ public class JwtUtil {
         );
     }
 
+    public Duration refreshTokenLifetime() {
+        return Duration.ofMillis(refreshExpiration);
+    }
+
     private String createToken(
         Map<String, Object> claims,
         String subject,
@@ -73,23 +109,36 @@ public class JwtUtil {
     ) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
+        JwtKeyRing.ActiveKey signingKey = keyRing.activeKey();
 
         return Jwts.builder()
+            .header().keyId(signingKey.kid()).and()
             .claims(claims)
+            .id(UUID.randomUUID().toString()) // jti, used for revocation
             .subject(subject)
             .issuedAt(now)
             .expiration(expiryDate)
-            .signWith(getSigningKey())
+            .signWith(signingKey.key())
             .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Parse and verify token exactly once
+     * Access tokens already verified are served from VerifiedTokenCache (no crypto, no JSON)
+     * Return empty when signature, format or expiration is invalid
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            VerifiedToken verified = VerifiedToken.from(extractAllClaims(token));
+            // refresh tokens are used once per rotation, caching them only wastes space
+            if (verified.isAccessToken()) {
+                verifiedTokenCache.put(token, verified);
+            }
+            return Optional.of(verified);
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
@@ -100,8 +149,14 @@ public class JwtUtil {
             log.error("Unsupported JWT token: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty: {}", ex.getMessage());
+        } catch (JwtException ex) {
+            log.error("JWT rejected: {}", ex.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
     public boolean validateToken(String token, UserDetails userDetails) {
@@ -161,22 +216,13 @@ public class JwtUtil {
      * Extract all claims from token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     private boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     public boolean isRefreshToken(String token) {
         try {
             Claims claims = extractAllClaims(token);
@@ -0,0 +1,38 @@
+package com.taskmanagement.userservice.application.utils;
+
+import com.taskmanagement.userservice.domain.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * SearchCursor: Keyset position (createdAt, id) of the last row of a page
+ * Opaque to clients: base64url("<epochSecond>.<nano>:<uuid>"), anything else is rejected
+ */
+public record SearchCursor(Instant createdAt, UUID id) {
+
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + "." + createdAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int dot = raw.indexOf('.');
+            int colon = raw.indexOf(':');
+            if (dot <= 0 || colon <= dot) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            Instant createdAt = Instant.ofEpochSecond(
+                    Long.parseLong(raw.substring(0, dot)),
+                    Long.parseLong(raw.substring(dot + 1, colon)));
+            return new SearchCursor(createdAt, UUID.fromString(raw.substring(colon + 1)));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
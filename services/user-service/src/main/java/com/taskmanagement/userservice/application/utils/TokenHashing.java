@@ -0,0 +1,31 @@
+package com.taskmanagement.userservice.application.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * TokenHashing: SHA-256 digest of opaque tokens
+ * Stored / used as lookup key instead of the raw token, so a leaked table or heap dump
+ * doesn't hand out usable credentials
+ */
+public final class TokenHashing {
+
+    private TokenHashing() {
+    }
+
+    /**
+     * Base64url (no padding) SHA-256, always 43 characters
+     */
+    public static String sha256(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every JVM
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanagement.userservice.application.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * TransactionCallbacks: Side effects that must only happen once the surrounding transaction committed
+ * - In-memory state (revocation denylist, caches, read-your-writes marks) must not change for a write
+ *   that is rolled back
+ * - No transaction synchronization active -> runs immediately
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
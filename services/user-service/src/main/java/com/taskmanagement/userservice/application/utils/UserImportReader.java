@@ -0,0 +1,170 @@
+package com.taskmanagement.userservice.application.utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.userservice.application.dto.ImportUserRecord;
+import com.taskmanagement.userservice.domain.exception.InvalidImportException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * UserImportReader: Streams a bulk import one record at a time (constant memory)
+ * - CSV: header row with email,password,firstName,lastName (any order), RFC 4180 quoting on one line
+ * - NDJSON: one JSON object per line
+ * A malformed row becomes a Row with an error instead of failing the whole import
+ */
+public class UserImportReader implements Closeable {
+
+    private static final ObjectMapper NDJSON_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final List<String> CSV_COLUMNS = List.of("email", "password", "firstname", "lastname");
+
+    private final BufferedReader reader;
+    private final Format format;
+    private int[] csvColumns;
+    private long row;
+
+    public UserImportReader(InputStream inputStream, Format format) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.format = format;
+    }
+
+    /**
+     * Next record, or null at end of input (blank lines are skipped)
+     */
+    public Row next() {
+        try {
+            if (format == Format.CSV && csvColumns == null) {
+                String header = nextLine();
+                if (header == null) {
+                    return null;
+                }
+                csvColumns = mapHeader(header);
+            }
+            String line = nextLine();
+            if (line == null) {
+                return null;
+            }
+            row++;
+            return format == Format.CSV ? parseCsv(line) : parseJson(line);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read import stream", ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    private Row parseJson(String line) {
+        try {
+            return new Row(row, NDJSON_MAPPER.readValue(line, ImportUserRecord.class), null);
+        } catch (IOException ex) {
+            return new Row(row, null, "Malformed JSON line");
+        }
+    }
+
+    private Row parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields == null) {
+            return new Row(row, null, "Malformed CSV row (unbalanced quotes)");
+        }
+        return new Row(row, new ImportUserRecord(
+                field(fields, csvColumns[0]),
+                field(fields, csvColumns[1]),
+                field(fields, csvColumns[2]),
+                field(fields, csvColumns[3])
+        ), null);
+    }
+
+    private static int[] mapHeader(String header) {
+        List<String> names = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; names != null && i < names.size(); i++) {
+            positions.put(names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < columns.length; i++) {
+            Integer position = positions.get(CSV_COLUMNS.get(i));
+            if (position == null) {
+                throw new InvalidImportException("CSV header must contain email, password, firstName, lastName");
+            }
+            columns[i] = position;
+        }
+        return columns;
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index).trim() : null;
+    }
+
+    // null when a quoted field isn't closed on this line
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format fromContentType(String contentType) {
+            if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/csv")) {
+                return CSV;
+            }
+            if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("ndjson")) {
+                return NDJSON;
+            }
+            throw new InvalidImportException("Unsupported import content type: " + contentType
+                    + " (expected text/csv or application/x-ndjson)");
+        }
+    }
+
+    public record Row(long row, ImportUserRecord record, String error) {
+    }
+}
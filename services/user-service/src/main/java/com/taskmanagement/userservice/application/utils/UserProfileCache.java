@@ -0,0 +1,86 @@
+package com.taskmanagement.userservice.application.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanagement.userservice.application.dto.UserProfileResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * UserProfileCache: Read-through cache userId -> UserProfileResponse
+ * - Bounded by size, entries expire after write (TTL bounds staleness across instances)
+ * - invalidate() on profile changes, evicted again after commit so a concurrent
+ *   read can't put back the pre-commit state
+ * - Role (un)assignments: RoleAssignmentWatcher invalidates the users that changed,
+ *   role definition reloads in RbacRegistry clear everything (invalidateAll)
+ * - Hit/miss/size metrics published as "cache.*{cache=user.profiles}" (/actuator/metrics)
+ * - user.profile-cache.enabled=false -> every read goes to the DB
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+
+    private static final String CACHE_NAME = "user.profiles";
+
+    private final Cache<UUID, UserProfileResponse> cache;
+
+    public UserProfileCache(
+            @Value("${user.profile-cache.enabled:true}") boolean enabled,
+            @Value("${user.profile-cache.maximum-size:50000}") long maximumSize,
+            @Value("${user.profile-cache.ttl:PT5M}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        if (!enabled) {
+            log.info("User profile cache is disabled");
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Cached profile, or load it on miss (concurrent misses for the same user share one load)
+     * Exceptions from the loader are rethrown and nothing is cached
+     */
+    public UserProfileResponse get(UUID userId, Function<UUID, UserProfileResponse> loader) {
+        if (cache == null) {
+            return loader.apply(userId);
+        }
+        return cache.get(userId, loader);
+    }
+
+    public void invalidate(UUID userId) {
+        if (cache == null) {
+            return;
+        }
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskmanagement.userservice.application.utils;
+
+import com.taskmanagement.userservice.application.dto.UserProfileResponse;
+import com.taskmanagement.userservice.domain.exception.ProfileNotFoundException;
+import com.taskmanagement.userservice.domain.exception.UserNotFoundException;
+import com.taskmanagement.userservice.domain.projection.UserProfileRow;
+import com.taskmanagement.userservice.domain.repository.ProfileRepository;
+import com.taskmanagement.userservice.infrastructure.persistence.ReadYourWritesTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * UserProfileLoader: Cache-miss loader of UserProfileCache
+ * - Single joined query (user + profile + role names)
+ * - The read-only transaction opens here, not around the cache lookup: a hit takes no
+ *   connection at all, a miss can be routed to a replica
+ * - Called inside a read-write transaction (after an update) it joins it and reads the primary
+ * - Profile written within the read-your-writes window -> primary, a lagging replica would
+ *   put the old row back into the cache for a whole TTL
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileLoader {
+
+    private final ProfileRepository profileRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Transactional(readOnly = true)
+    public UserProfileResponse load(UUID userId) {
+        // the connection is routed at the first statement (lazy proxy), pinning it here is early enough
+        List<UserProfileRow> rows = readYourWritesTracker.wroteRecently(ReadYourWritesTracker.userKey(userId))
+                ? readYourWritesTracker.forcePrimary(() -> profileRepository.findProfileRowsByUserId(userId))
+                : profileRepository.findProfileRowsByUserId(userId);
+        if (rows.isEmpty()) {
+            throw new UserNotFoundException("User not found");
+        }
+        if (rows.get(0).profileId() == null) {
+            throw new ProfileNotFoundException("Profile not found");
+        }
+        return UserProfileResponse.from(rows);
+    }
+}
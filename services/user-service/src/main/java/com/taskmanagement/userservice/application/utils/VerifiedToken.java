@@ -0,0 +1,86 @@
+package com.taskmanagement.userservice.application.utils;
+
+import com.taskmanagement.userservice.infrastructure.security.PermissionMask;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * VerifiedToken: Immutable view of a JWT whose signature has already been checked
+ * - Produced once per request by JwtUtil.verify (one parse, one signature check)
+ * - Callers read claims from here instead of re-parsing the raw token
+ * - roles holds ROLE_* only, permissions is the PermissionMask bitmask ("perms" claim)
+ */
+public record VerifiedToken(
+        UUID jti,
+        String subject,
+        UUID userId,
+        String email,
+        List<String> roles,
+        String tokenType,
+        Instant issuedAt,
+        Instant expiresAt,
+        UUID sessionId,
+        int permissions
+) {
+
+    public static final String ACCESS = "ACCESS";
+    public static final String REFRESH = "REFRESH";
+
+    static VerifiedToken from(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        String jti = claims.getId();
+        String sessionId = claims.get("sid", String.class);
+        Object perms = claims.get(PermissionMask.CLAIM);
+        List<String> roles = new ArrayList<>();
+        int permissions = foldRoles(claims.get("roles", List.class), roles,
+                perms instanceof Number mask ? mask.intValue() : PermissionMask.NONE);
+        return new VerifiedToken(
+                jti != null ? UUID.fromString(jti) : null, // tokens issued before jti existed have none
+                claims.getSubject(),
+                userId != null ? UUID.fromString(userId) : null,
+                claims.get("email", String.class),
+                roles.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(roles),
+                claims.get("tokenType", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                sessionId != null ? UUID.fromString(sessionId) : null, // refresh-token family of the login
+                permissions
+        );
+    }
+
+    public boolean isAccessToken() {
+        return ACCESS.equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH.equals(tokenType);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+
+    /*
+    Tokens issued before the perms claim list "RESOURCE:ACTION" strings next to the roles,
+    fold those into the mask so every check goes through the bits
+     */
+    private static int foldRoles(List<?> claimRoles, List<String> roles, int permissions) {
+        if (claimRoles == null) {
+            return permissions;
+        }
+        for (Object value : claimRoles) {
+            String role = value.toString();
+            if (PermissionMask.isPermissionAuthority(role)) {
+                permissions |= PermissionMask.fromAuthority(role);
+            } else {
+                roles.add(role);
+            }
+        }
+        return permissions;
+    }
+}
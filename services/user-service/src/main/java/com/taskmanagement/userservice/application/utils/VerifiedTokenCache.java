@@ -0,0 +1,96 @@
+package com.taskmanagement.userservice.application.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * VerifiedTokenCache: In-process cache of already verified access tokens
+ * - Key is SHA-256 of the raw token (never keep the bearer token itself in memory)
+ * - Bounded by size, each entry expires at the token's own "exp"
+ * - Hit/miss/eviction metrics published as "cache.*{cache=jwt.verified}"
+ * - jwt.cache.enabled=false turns it into a no-op
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified";
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.maximum-size:100000}") long maximumSize,
+            MeterRegistry meterRegistry
+    ) {
+        if (!enabled) {
+            log.info("Verified JWT cache is disabled");
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Return the cached verification result, or null on miss / disabled cache
+     */
+    public VerifiedToken get(String token) {
+        if (cache == null) {
+            return null;
+        }
+        return cache.getIfPresent(digest(token));
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (cache == null || verified.expiresAt() == null) {
+            return;
+        }
+        cache.put(digest(token), verified);
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private static String digest(String token) {
+        return TokenHashing.sha256(token);
+    }
+
+    /*
+    Entry lives until the token's own expiration, reads and updates don't extend it
+     */
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remaining = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(0L, remaining);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
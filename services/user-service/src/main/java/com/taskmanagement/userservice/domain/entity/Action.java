@@ -1,9 +1,23 @@
 package com.taskmanagement.userservice.domain.entity;
 
+/*
+permissionBit is the bit of the action inside a resource's block of the JWT "perms" mask:
+fixed, never reorder or reuse it (outstanding tokens would map to other permissions)
+ */
 public enum Action {
-    CREATE,  // Create new resource
-    READ,    // View/list resource
-    UPDATE,  // Modify resource
-    DELETE,  // Delete resource
-    MANAGE   // Full control (includes all above + assign, configure, etc.)
-}
\ No newline at end of file
+    CREATE(0),  // Create new resource
+    READ(1),    // View/list resource
+    UPDATE(2),  // Modify resource
+    DELETE(3),  // Delete resource
+    MANAGE(4);  // Full control (includes all above + assign, configure, etc.)
+
+    private final int permissionBit;
+
+    Action(int permissionBit) {
+        this.permissionBit = permissionBit;
+    }
+
+    public int getPermissionBit() {
+        return permissionBit;
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskmanagement.userservice.domain.entity;
+
+public enum OutboxStatus {
+    PENDING,  // Waiting for the relay
+    SENDING,  // Claimed by a relay, lease until next_attempt_at
+    SENT,     // Delivered
+    FAILED    // Gave up after max attempts
+}
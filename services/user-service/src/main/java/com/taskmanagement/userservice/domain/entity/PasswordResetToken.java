@@ -1,5 +1,6 @@
 package com.taskmanagement.userservice.domain.entity;
 
+import com.taskmanagement.userservice.infrastructure.persistence.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -17,11 +18,12 @@ import java.util.UUID;
 public class PasswordResetToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
-    @Column(name = "token", nullable = false, unique = true)
-    private String token;
+    // SHA-256 of the token sent by email, the raw token is never stored
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
 
     @Column(name = "user_id", nullable = false)
     private UUID userId;
@@ -1,5 +1,6 @@
 package com.taskmanagement.userservice.domain.entity;
 
+import com.taskmanagement.userservice.infrastructure.persistence.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -20,7 +21,7 @@ import java.util.UUID;
 public class Profile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @Column(name = "user_id", nullable = false, unique = true)
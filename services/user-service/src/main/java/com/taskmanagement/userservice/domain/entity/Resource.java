@@ -1,8 +1,22 @@
 package com.taskmanagement.userservice.domain.entity;
 
+/*
+permissionOffset is the first bit of the resource's block in the JWT "perms" mask:
+fixed, never reorder or reuse it (outstanding tokens would map to other permissions)
+ */
 public enum Resource {
 
-    TASK, // Task level 1
-    FEATURE, // Task level 2
-    OBJECTIVE  // Task level 3
+    TASK(0), // Task level 1
+    FEATURE(5), // Task level 2
+    OBJECTIVE(10);  // Task level 3
+
+    private final int permissionOffset;
+
+    Resource(int permissionOffset) {
+        this.permissionOffset = permissionOffset;
+    }
+
+    public int getPermissionOffset() {
+        return permissionOffset;
+    }
 }
@@ -1,5 +1,6 @@
 package com.taskmanagement.userservice.domain.entity;
 
+import com.taskmanagement.userservice.infrastructure.persistence.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -14,14 +15,14 @@ import java.util.UUID;
 @Table(name = "roles")
 @Getter
 @Setter
-@SQLDelete(sql = "UPDATE roles SET deleted_at = NOW() WHERE id = ?") // Implement soft delete don't need write more code
+@SQLDelete(sql = "UPDATE roles SET deleted_at = NOW(), version = version + 1 WHERE id = ? AND version = ?") // Implement soft delete don't need write more code
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Role {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
     private String name;
     private String description;
@@ -30,11 +31,16 @@ public class Role {
     private Set<User> users; // (many:many)
 
     @Builder.Default
-    @ElementCollection(fetch = FetchType.EAGER) // <- Lazy load by default
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "role_permissions",
         joinColumns = @JoinColumn(name = "role_id"))
     private Set<RolePermission> permissions = new HashSet<>(); // combine resource and action
 
+    // bumped on every change of the role or its permissions -> RbacRegistry reloads its snapshot
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "created_by")
     private UUID createdBy;
     @Column(name = "updated_by")
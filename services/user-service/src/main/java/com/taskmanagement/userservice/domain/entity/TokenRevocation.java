@@ -0,0 +1,50 @@
+package com.taskmanagement.userservice.domain.entity;
+
+import com.taskmanagement.userservice.infrastructure.persistence.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "token_revocations")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRevocation {
+
+    @Id
+    @TimeOrderedId
+    private UUID id;
+
+    // set when a single token is revoked (logout)
+    @Column(name = "jti")
+    private UUID jti;
+
+    // set when a whole login session (refresh-token family) is revoked
+    @Column(name = "session_id")
+    private UUID sessionId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    // set when every token of the user issued before this instant is revoked (password change)
+    @Column(name = "not_before")
+    private Instant notBefore;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private Instant revokedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (revokedAt == null) {
+            revokedAt = Instant.now();
+        }
+    }
+}
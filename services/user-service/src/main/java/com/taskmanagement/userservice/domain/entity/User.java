@@ -1,10 +1,12 @@
 package com.taskmanagement.userservice.domain.entity;
 
+import com.taskmanagement.userservice.infrastructure.persistence.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.HashSet;
@@ -23,7 +25,7 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @Column(unique = true, nullable = false)
@@ -32,8 +34,9 @@ public class User {
     @Column(name = "password_hash", nullable = false)
     private String password;
 
+    // LAZY: authentication reads roles/permissions through UserRepository.findAuthRowsByEmail
     @Builder.Default
-    @ManyToMany(fetch = FetchType.EAGER, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable( name = "user_roles",
     joinColumns = @JoinColumn(name = "user_id"),
     inverseJoinColumns = @JoinColumn(name = "role_id"))
@@ -45,6 +48,9 @@ public class User {
     private LocalDateTime updatedAt;
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
+    // written by the user_roles triggers only (V1.11), never by JPA
+    @Column(name = "roles_changed_at", insertable = false, updatable = false)
+    private Instant rolesChangedAt;
 
     /*  use JPA lifecycle callbacks:
         this way can get error if the timeZone is different
@@ -0,0 +1,7 @@
+package com.taskmanagement.userservice.domain.exception;
+
+public class BatchLimitExceededException extends RuntimeException{
+    public BatchLimitExceededException (String message) {
+        super(message);
+    }
+}
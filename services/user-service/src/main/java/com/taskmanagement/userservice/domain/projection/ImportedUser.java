@@ -0,0 +1,17 @@
+package com.taskmanagement.userservice.domain.projection;
+
+import java.util.UUID;
+
+/**
+ * ImportedUser: One validated, hashed user of a bulk import, ready for the batch insert
+ */
+public record ImportedUser(
+        long row,
+        UUID userId,
+        UUID profileId,
+        String email,
+        String passwordHash,
+        String firstName,
+        String lastName
+) {
+}
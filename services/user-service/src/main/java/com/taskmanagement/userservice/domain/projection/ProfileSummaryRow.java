@@ -0,0 +1,14 @@
+package com.taskmanagement.userservice.domain.projection;
+
+import java.util.UUID;
+
+/**
+ * ProfileSummaryRow: Display fields of a profile (name + avatar), batch lookups
+ */
+public record ProfileSummaryRow(
+        UUID userId,
+        String firstName,
+        String lastName,
+        String photoUrl
+) {
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.userservice.domain.projection;
+
+import com.taskmanagement.userservice.domain.entity.Action;
+import com.taskmanagement.userservice.domain.entity.Resource;
+
+import java.util.UUID;
+
+/**
+ * RoleGrantRow: One row of the role x permission read model (RBAC snapshot load)
+ * resource / action are null for a role without permissions
+ */
+public record RoleGrantRow(
+        UUID roleId,
+        String roleName,
+        String description,
+        Resource resource,
+        Action action
+) {
+}
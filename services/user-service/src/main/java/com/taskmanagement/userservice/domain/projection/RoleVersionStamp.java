@@ -0,0 +1,11 @@
+package com.taskmanagement.userservice.domain.projection;
+
+/**
+ * RoleVersionStamp: Cheap fingerprint of the roles table
+ * roleCount moves on insert, versionSum on every update (soft delete included)
+ */
+public record RoleVersionStamp(
+        Long roleCount,
+        Long versionSum
+) {
+}
@@ -0,0 +1,15 @@
+package com.taskmanagement.userservice.domain.projection;
+
+import java.util.UUID;
+
+/**
+ * UserAuthRow: One row of the authentication read model, one per role of the user
+ * roleName is null when the user has no role, permissions come from the RBAC snapshot
+ */
+public record UserAuthRow(
+        UUID userId,
+        String email,
+        String passwordHash,
+        String roleName
+) {
+}
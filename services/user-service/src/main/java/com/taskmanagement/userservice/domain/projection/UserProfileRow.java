@@ -0,0 +1,22 @@
+package com.taskmanagement.userservice.domain.projection;
+
+import com.taskmanagement.userservice.domain.entity.Gender;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * UserProfileRow: One row of the joined user x profile x role read model
+ * profileId is null when the user has no profile, roleName is null when the user has no role
+ */
+public record UserProfileRow(
+        UUID profileId,
+        String email,
+        String firstName,
+        String lastName,
+        LocalDate dateOfBirth,
+        Gender gender,
+        String bio,
+        String roleName
+) {
+}
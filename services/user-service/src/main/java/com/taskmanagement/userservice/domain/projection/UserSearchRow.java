@@ -0,0 +1,16 @@
+package com.taskmanagement.userservice.domain.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * UserSearchRow: One hit of the user search, (createdAt, id) is the keyset position
+ */
+public record UserSearchRow(
+        UUID id,
+        String email,
+        String firstName,
+        String lastName,
+        Instant createdAt
+) {
+}
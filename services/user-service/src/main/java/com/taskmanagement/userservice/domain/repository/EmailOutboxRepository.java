@@ -0,0 +1,19 @@
+package com.taskmanagement.userservice.domain.repository;
+
+import com.taskmanagement.userservice.domain.entity.EmailOutboxMessage;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface EmailOutboxRepository {
+
+    EmailOutboxMessage save(EmailOutboxMessage message);
+    List<EmailOutboxMessage> findAllById(Iterable<UUID> ids);
+    List<UUID> lockDueIds(Instant now, int limit);
+    int markSending(List<UUID> ids, Instant leaseUntil);
+    int markSent(UUID id, Instant sentAt);
+    int markRetry(UUID id, Instant nextAttemptAt, String lastError);
+    int markFailed(UUID id, String lastError);
+    int deleteSentBefore(Instant before);
+}
@@ -9,7 +9,7 @@ import java.util.UUID;
 public interface PasswordResetTokenRepository {
 
     void deleteByUserId(UUID userId);
-    Optional<PasswordResetToken> findByToken(String token);
+    Optional<PasswordResetToken> findByTokenHash(String tokenHash);
     PasswordResetToken save(PasswordResetToken resetToken);
-    void deleteByExpiryAtBefore(LocalDateTime now);
+    int deleteExpiredBatch(LocalDateTime now, int batchSize);
 }
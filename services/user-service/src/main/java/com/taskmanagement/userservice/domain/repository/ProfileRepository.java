@@ -1,7 +1,11 @@
 package com.taskmanagement.userservice.domain.repository;
 
 import com.taskmanagement.userservice.domain.entity.Profile;
+import com.taskmanagement.userservice.domain.projection.ProfileSummaryRow;
+import com.taskmanagement.userservice.domain.projection.UserProfileRow;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,4 +13,6 @@ public interface ProfileRepository {
 
     Profile save(Profile profile);
     Optional<Profile> findByUserId(UUID userId);
+    List<UserProfileRow> findProfileRowsByUserId(UUID userId);
+    List<ProfileSummaryRow> findSummariesByUserIdIn(Collection<UUID> userIds);
 }
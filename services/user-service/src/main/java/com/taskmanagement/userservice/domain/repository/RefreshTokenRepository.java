@@ -0,0 +1,15 @@
+package com.taskmanagement.userservice.domain.repository;
+
+import com.taskmanagement.userservice.domain.entity.RefreshToken;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface RefreshTokenRepository {
+
+    RefreshToken save(RefreshToken refreshToken);
+    int markUsed(String tokenHash, Instant usedAt);
+    int revokeFamily(UUID familyId, Instant revokedAt);
+    int revokeAllByUserId(UUID userId, Instant revokedAt);
+    int deleteExpired(Instant now);
+}
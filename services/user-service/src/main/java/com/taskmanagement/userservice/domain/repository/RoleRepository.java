@@ -1,10 +1,17 @@
 package com.taskmanagement.userservice.domain.repository;
 
 import com.taskmanagement.userservice.domain.entity.Role;
+import com.taskmanagement.userservice.domain.projection.RoleGrantRow;
+import com.taskmanagement.userservice.domain.projection.RoleVersionStamp;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface RoleRepository {
 
     Optional<Role> findByName(String name);
+    Role getReferenceById(UUID id);
+    List<RoleGrantRow> findAllGrants();
+    RoleVersionStamp findVersionStamp();
 }
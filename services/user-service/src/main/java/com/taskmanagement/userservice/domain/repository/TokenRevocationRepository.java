@@ -0,0 +1,13 @@
+package com.taskmanagement.userservice.domain.repository;
+
+import com.taskmanagement.userservice.domain.entity.TokenRevocation;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TokenRevocationRepository {
+
+    TokenRevocation save(TokenRevocation revocation);
+    List<TokenRevocation> findRevokedSince(Instant since, Instant now);
+    int deleteExpired(Instant now);
+}
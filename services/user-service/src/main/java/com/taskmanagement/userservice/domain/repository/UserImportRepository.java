@@ -0,0 +1,18 @@
+package com.taskmanagement.userservice.domain.repository;
+
+import com.taskmanagement.userservice.domain.projection.ImportedUser;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface UserImportRepository {
+
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Batch insert users + profiles + user_roles, element i is false when users[i] lost an email race
+     */
+    boolean[] insertAll(List<ImportedUser> users, UUID roleId);
+}
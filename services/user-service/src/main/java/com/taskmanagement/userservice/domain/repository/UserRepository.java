@@ -1,7 +1,11 @@
 package com.taskmanagement.userservice.domain.repository;
 
 import com.taskmanagement.userservice.domain.entity.User;
+import com.taskmanagement.userservice.domain.projection.UserAuthRow;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +16,7 @@ public interface UserRepository {
     Optional<User> findById(UUID id);
     void deleteById(UUID id);
     boolean existsByEmail(String email);
+    List<UserAuthRow> findAuthRowsByEmail(String email);
+    int updatePasswordHash(UUID id, String passwordHash, LocalDateTime updatedAt);
+    List<UUID> findIdsWithRolesChangedSince(Instant since);
 }
@@ -0,0 +1,16 @@
+package com.taskmanagement.userservice.domain.repository;
+
+import com.taskmanagement.userservice.domain.projection.UserSearchRow;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface UserSearchRepository {
+
+    /**
+     * Newest first, strictly after (afterCreatedAt, afterId) when given
+     * search / roleId are optional filters (null = no filter)
+     */
+    List<UserSearchRow> search(String search, UUID roleId, Instant afterCreatedAt, UUID afterId, int limit);
+}
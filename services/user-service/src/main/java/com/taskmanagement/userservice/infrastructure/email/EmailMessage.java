@@ -0,0 +1,4 @@
+package com.taskmanagement.userservice.infrastructure.email;
+
+public record EmailMessage(String to, String subject, String body) {
+}
@@ -0,0 +1,149 @@
+package com.taskmanagement.userservice.infrastructure.email;
+
+import com.taskmanagement.userservice.domain.entity.EmailOutboxMessage;
+import com.taskmanagement.userservice.domain.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * EmailOutboxRelay: Delivers email_outbox rows in the background
+ * - Claim: short transaction, lock a batch of due rows (FOR UPDATE SKIP LOCKED, several
+ *   instances never claim the same row), mark them SENDING with a lease, commit
+ * - Send: outside any transaction, through EmailTransport
+ * - Failure: retry with exponential backoff, FAILED after max attempts
+ * - A relay dying mid-send leaves SENDING rows that become due again when the lease ends
+ * - Metrics: email.outbox.delivered{result}, email.outbox.delivery (transport latency)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "email.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxRelay {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailTransport transport;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration sentRetention;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer deliveryTimer;
+
+    public EmailOutboxRelay(
+            EmailOutboxRepository outboxRepository,
+            EmailTransport transport,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${email.outbox.relay.batch-size:50}") int batchSize,
+            @Value("${email.outbox.relay.max-attempts:8}") int maxAttempts,
+            @Value("${email.outbox.relay.initial-backoff:PT10S}") Duration initialBackoff,
+            @Value("${email.outbox.relay.max-backoff:PT30M}") Duration maxBackoff,
+            @Value("${email.outbox.relay.lease:PT2M}") Duration lease,
+            @Value("${email.outbox.sent-retention:P7D}") Duration sentRetention
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.transport = transport;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.sentRetention = sentRetention;
+        this.sentCounter = deliveredCounter(meterRegistry, "sent");
+        this.retriedCounter = deliveredCounter(meterRegistry, "retry");
+        this.failedCounter = deliveredCounter(meterRegistry, "failed");
+        this.deliveryTimer = Timer.builder("email.outbox.delivery")
+                .description("Time spent in the email transport per message")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.relay.poll-interval:PT2S}")
+    public void relay() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<EmailOutboxMessage> batch = claimBatch();
+            batch.forEach(this::deliver);
+            if (batch.size() < batchSize) {
+                return; // drained
+            }
+        }
+    }
+
+    @Scheduled(cron = "0 15 * * * ?") // Runs every hour
+    public void cleanupSent() {
+        int deleted = outboxRepository.deleteSentBefore(Instant.now().minus(sentRetention));
+        log.debug("Deleted {} delivered outbox emails", deleted);
+    }
+
+    private List<EmailOutboxMessage> claimBatch() {
+        List<EmailOutboxMessage> claimed = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<UUID> ids = outboxRepository.lockDueIds(now, batchSize);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboxRepository.markSending(ids, now.plus(lease));
+            return outboxRepository.findAllById(ids);
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void deliver(EmailOutboxMessage message) {
+        try {
+            deliveryTimer.record(() -> transport.send(
+                    new EmailMessage(message.getRecipient(), message.getSubject(), message.getBody())));
+            outboxRepository.markSent(message.getId(), Instant.now());
+            sentCounter.increment();
+        } catch (RuntimeException ex) {
+            String error = truncate(ex.getClass().getSimpleName() + ": " + ex.getMessage());
+            // attempts was already incremented when the row was claimed
+            if (message.getAttempts() >= maxAttempts) {
+                outboxRepository.markFailed(message.getId(), error);
+                failedCounter.increment();
+                log.error("Giving up on outbox email {} after {} attempts: {}", message.getId(), message.getAttempts(), error);
+            } else {
+                outboxRepository.markRetry(message.getId(), Instant.now().plus(backoff(message.getAttempts())), error);
+                retriedCounter.increment();
+                log.warn("Outbox email {} failed (attempt {}), retrying: {}", message.getId(), message.getAttempts(), error);
+            }
+        }
+    }
+
+    // initialBackoff * 2^(attempt-1), capped
+    private Duration backoff(int attempt) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(Math.max(attempt - 1, 0), 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static Counter deliveredCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("email.outbox.delivered")
+                .description("Outbox emails processed by the relay, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskmanagement.userservice.infrastructure.email;
+
+/**
+ * EmailTransport: Delivers one email (SMTP, provider API, ...)
+ * Throw on failure, EmailOutboxRelay retries with backoff
+ * Selected with email.transport (logging by default, in-memory for tests)
+ */
+public interface EmailTransport {
+
+    void send(EmailMessage message);
+}
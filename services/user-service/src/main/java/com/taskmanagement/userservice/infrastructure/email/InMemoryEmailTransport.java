@@ -0,0 +1,30 @@
+package com.taskmanagement.userservice.infrastructure.email;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * InMemoryEmailTransport: Keeps delivered emails in memory so tests can assert on them
+ */
+@Component
+@ConditionalOnProperty(name = "email.transport", havingValue = "in-memory")
+public class InMemoryEmailTransport implements EmailTransport {
+
+    private final List<EmailMessage> sent = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(EmailMessage message) {
+        sent.add(message);
+    }
+
+    public List<EmailMessage> sentMessages() {
+        return List.copyOf(sent);
+    }
+
+    public void clear() {
+        sent.clear();
+    }
+}
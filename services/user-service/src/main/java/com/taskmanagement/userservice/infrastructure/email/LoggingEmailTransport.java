@@ -0,0 +1,23 @@
+package com.taskmanagement.userservice.infrastructure.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * LoggingEmailTransport: Writes emails to the log (local development, no SMTP configured)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "email.transport", havingValue = "logging", matchIfMissing = true)
+public class LoggingEmailTransport implements EmailTransport {
+
+    @Override
+    public void send(EmailMessage message) {
+        log.info("=================================");
+        log.info("EMAIL: {}", message.subject());
+        log.info("To: {}", message.to());
+        log.info("{}", message.body());
+        log.info("=================================");
+    }
+}
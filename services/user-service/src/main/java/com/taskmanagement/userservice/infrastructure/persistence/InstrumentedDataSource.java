@@ -0,0 +1,207 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+/**
+ * InstrumentedDataSource: Times every statement executed through the pool and counts the rows read
+ * - Thin JDK proxies around Connection / Statement / ResultSet, everything else is passed through
+ * - Replaces spring.jpa.show-sql: latency and rows go to QueryInspector instead of stdout
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final Supplier<QueryInspector> inspector;
+
+    public InstrumentedDataSource(DataSource target, QueryInspector inspector) {
+        this(target, () -> inspector);
+    }
+
+    /**
+     * Inspector resolved on first use: the DataSource is created before the meter registry
+     */
+    public InstrumentedDataSource(DataSource target, Supplier<QueryInspector> inspector) {
+        super(target);
+        this.inspector = SingletonSupplier.of(inspector);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    /*
+    Proxies are compared by identity: Hibernate keeps statements and result sets in hash maps
+     */
+    private static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class && !method.getName().equals("toString");
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, new StatementHandler((Statement) result, null));
+                case "prepareStatement" ->
+                        proxy(PreparedStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall" ->
+                        proxy(CallableStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private RowCounter openResultSet;
+        private ResultSet openResultSetProxy;
+        private String lastSource;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.equals("close")) {
+                flushRows();
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (name.equals("getResultSet") && result != null && lastSource != null) {
+                return countRows((ResultSet) result, preparedSql, lastSource);
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = InstrumentedDataSource.invoke(target, method, args);
+            } catch (Throwable ex) {
+                inspector.get().recordExecution(sql, System.nanoTime() - start, true);
+                throw ex;
+            }
+            lastSource = inspector.get().recordExecution(sql, System.nanoTime() - start, false);
+            return result instanceof ResultSet resultSet ? countRows(resultSet, sql, lastSource) : result;
+        }
+
+        private ResultSet countRows(ResultSet resultSet, String sql, String source) {
+            if (openResultSet != null && openResultSet.target == resultSet) {
+                return openResultSetProxy; // getResultSet() called again
+            }
+            flushRows();
+            openResultSet = new RowCounter(resultSet, sql, source);
+            openResultSetProxy = proxy(ResultSet.class, openResultSet);
+            return openResultSetProxy;
+        }
+
+        private void flushRows() {
+            if (openResultSet != null) {
+                openResultSet.record();
+                openResultSet = null;
+                openResultSetProxy = null;
+            }
+        }
+    }
+
+    private final class RowCounter implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String sql;
+        private final String source;
+        private long rows;
+        private boolean recorded;
+
+        private RowCounter(ResultSet target, String sql, String source) {
+            this.target = target;
+            this.sql = sql;
+            this.source = source;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if (Boolean.TRUE.equals(result)) {
+                        rows++;
+                    }
+                }
+                case "close" -> record();
+                default -> {
+                }
+            }
+            return result;
+        }
+
+        private void record() {
+            if (!recorded) {
+                recorded = true;
+                inspector.get().recordRows(source, sql, rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import com.taskmanagement.userservice.domain.projection.ImportedUser;
+import com.taskmanagement.userservice.domain.repository.UserImportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JdbcUserImportRepository: Bulk import writes, plain JDBC batches instead of one persist per entity
+ * - One multi-row statement round trip per table per chunk, no persistence context
+ * - ON CONFLICT (email) DO NOTHING: a user created concurrently (register) doesn't fail the chunk,
+ *   the row is reported as a duplicate instead
+ * The caller owns the transaction (one per chunk)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcUserImportRepository implements UserImportRepository {
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (id, email, password_hash, created_at, updated_at) VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (email) DO NOTHING";
+    private static final String INSERT_PROFILE =
+            "INSERT INTO profiles (id, user_id, first_name, last_name, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_USER_ROLE =
+            "INSERT INTO user_roles (user_id, role_id, assigned_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(emails.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT email FROM users WHERE email IN (" + placeholders + ")",
+                String.class, emails.toArray()));
+    }
+
+    @Override
+    public boolean[] insertAll(List<ImportedUser> users, UUID roleId) {
+        // same clock / zone as the entities' @PrePersist
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZoneId.of("UTC")));
+
+        List<Object[]> userRows = new ArrayList<>(users.size());
+        for (ImportedUser user : users) {
+            userRows.add(new Object[]{user.userId(), user.email(), user.passwordHash(), now, now});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_USER, userRows);
+
+        boolean[] inserted = new boolean[users.size()];
+        List<Object[]> profileRows = new ArrayList<>(users.size());
+        List<Object[]> roleRows = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            // SUCCESS_NO_INFO (-2) with reWriteBatchedInserts: no per-row count, assume the row went in,
+            // a skipped one then fails the profile FK and the caller retries the chunk row by row
+            inserted[i] = counts[i] != 0;
+            if (!inserted[i]) {
+                continue;
+            }
+            ImportedUser user = users.get(i);
+            profileRows.add(new Object[]{user.profileId(), user.userId(), user.firstName(), user.lastName(), now, now});
+            roleRows.add(new Object[]{user.userId(), roleId, now});
+        }
+        if (!profileRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PROFILE, profileRows);
+            jdbcTemplate.batchUpdate(INSERT_USER_ROLE, roleRows);
+        }
+        return inserted;
+    }
+}
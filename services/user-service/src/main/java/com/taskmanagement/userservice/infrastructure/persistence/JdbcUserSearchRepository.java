@@ -0,0 +1,71 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import com.taskmanagement.userservice.domain.projection.UserSearchRow;
+import com.taskmanagement.userservice.domain.repository.UserSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JdbcUserSearchRepository: Keyset-paginated user search
+ * - Seek predicate (created_at, id) < (:afterCreatedAt, :afterId) on idx_users_created_at_id,
+ *   page N costs the same as page 1 (no OFFSET scan)
+ * - Text filter: ids matching email / first name / last name via the trigram GIN indexes,
+ *   one UNION so each branch uses its own index
+ * - Role filter: join on user_roles (role_id = ?, idx_user_roles_role_id)
+ * SQL is assembled from fixed fragments per filter combination (no "? IS NULL OR" predicates,
+ * each shape gets its own plan); user input is only ever bound as a parameter
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcUserSearchRepository implements UserSearchRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<UserSearchRow> search(String search, UUID roleId, Instant afterCreatedAt, UUID afterId, int limit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT u.id, u.email, u.created_at, p.first_name, p.last_name FROM users u " +
+                "LEFT JOIN profiles p ON p.user_id = u.id ");
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("limit", limit);
+
+        if (roleId != null) {
+            sql.append("JOIN user_roles ur ON ur.user_id = u.id AND ur.role_id = :roleId ");
+            params.addValue("roleId", roleId);
+        }
+        sql.append("WHERE u.deleted_at IS NULL ");
+        if (search != null) {
+            sql.append("AND u.id IN (" +
+                    "SELECT su.id FROM users su WHERE su.deleted_at IS NULL AND su.email ILIKE :pattern " +
+                    "UNION " +
+                    "SELECT sp.user_id FROM profiles sp WHERE sp.first_name ILIKE :pattern OR sp.last_name ILIKE :pattern) ");
+            params.addValue("pattern", "%" + escapeLike(search) + "%");
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            sql.append("AND (u.created_at, u.id) < (:afterCreatedAt, :afterId) ");
+            params.addValue("afterCreatedAt", afterCreatedAt.atOffset(ZoneOffset.UTC));
+            params.addValue("afterId", afterId);
+        }
+        sql.append("ORDER BY u.created_at DESC, u.id DESC LIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new UserSearchRow(
+                rs.getObject("id", UUID.class),
+                rs.getString("email"),
+                rs.getString("first_name"),
+                rs.getString("last_name"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant()
+        ));
+    }
+
+    // ILIKE wildcards in the search term match literally (default escape character is '\')
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import com.taskmanagement.userservice.domain.entity.EmailOutboxMessage;
+import com.taskmanagement.userservice.domain.repository.EmailOutboxRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaEmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID>, EmailOutboxRepository {
+
+    /*
+    Row locks held until the claiming transaction commits, other relays skip them instead of waiting
+    SENDING rows whose lease expired (relay crashed mid-send) are due again
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = "SELECT id FROM email_outbox " +
+            "WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<UUID> lockDueIds(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.taskmanagement.userservice.domain.entity.OutboxStatus.SENDING, " +
+            "m.attempts = m.attempts + 1, m.nextAttemptAt = :leaseUntil WHERE m.id IN :ids")
+    int markSending(@Param("ids") List<UUID> ids, @Param("leaseUntil") Instant leaseUntil);
+
+    @Override
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.taskmanagement.userservice.domain.entity.OutboxStatus.SENT, " +
+            "m.sentAt = :sentAt, m.body = NULL, m.lastError = NULL WHERE m.id = :id")
+    int markSent(@Param("id") UUID id, @Param("sentAt") Instant sentAt);
+
+    @Override
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.taskmanagement.userservice.domain.entity.OutboxStatus.PENDING, " +
+            "m.nextAttemptAt = :nextAttemptAt, m.lastError = :lastError WHERE m.id = :id")
+    int markRetry(@Param("id") UUID id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("lastError") String lastError);
+
+    @Override
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.taskmanagement.userservice.domain.entity.OutboxStatus.FAILED, " +
+            "m.body = NULL, m.lastError = :lastError WHERE m.id = :id")
+    int markFailed(@Param("id") UUID id, @Param("lastError") String lastError);
+
+    @Override
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = com.taskmanagement.userservice.domain.entity.OutboxStatus.SENT " +
+            "AND m.sentAt < :before")
+    int deleteSentBefore(@Param("before") Instant before);
+}
@@ -3,8 +3,31 @@ package com.taskmanagement.userservice.infrastructure.persistence;
 import com.taskmanagement.userservice.domain.entity.PasswordResetToken;
 import com.taskmanagement.userservice.domain.repository.PasswordResetTokenRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface JpaPasswordResetTokenRepository extends JpaRepository<PasswordResetToken, UUID>, PasswordResetTokenRepository {
+
+    // one set-based DELETE, nothing is loaded into the persistence context
+    @Override
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PasswordResetToken t WHERE t.userId = :userId")
+    void deleteByUserId(@Param("userId") UUID userId);
+
+    /*
+    Bounded chunk, each call is its own short transaction (short row locks, small WAL bursts)
+    Whole days of expired tokens are dropped as partitions, this only trims the current ones
+     */
+    @Override
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM password_reset_tokens WHERE id IN (" +
+            "SELECT id FROM password_reset_tokens WHERE expiry_at < :now LIMIT :batchSize)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 }
@@ -1,10 +1,39 @@
 package com.taskmanagement.userservice.infrastructure.persistence;
 
 import com.taskmanagement.userservice.domain.entity.Profile;
+import com.taskmanagement.userservice.domain.projection.ProfileSummaryRow;
+import com.taskmanagement.userservice.domain.projection.UserProfileRow;
 import com.taskmanagement.userservice.domain.repository.ProfileRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface JpaProfileRepository extends JpaRepository<Profile, UUID>, ProfileRepository {
+
+    /*
+    Profile read model: user, profile and role names in one round trip, one row per role
+    no row -> no user, profileId null -> user without profile
+     */
+    @Override
+    @Query("SELECT new com.taskmanagement.userservice.domain.projection.UserProfileRow(" +
+            "p.id, u.email, p.firstName, p.lastName, p.dateOfBirth, p.gender, p.bio, r.name) " +
+            "FROM User u LEFT JOIN Profile p ON p.userId = u.id LEFT JOIN u.roles r " +
+            "WHERE u.id = :userId")
+    List<UserProfileRow> findProfileRowsByUserId(@Param("userId") UUID userId);
+
+    /*
+    Batch lookup: one IN query for the whole id list (list padded to a power of two, see
+    hibernate.query.in_clause_parameter_padding, so the statement cache stays small), served by profiles.user_id unique index
+    profile of a soft-deleted user is left out even if the profile row itself was not deleted
+     */
+    @Override
+    @Query("SELECT new com.taskmanagement.userservice.domain.projection.ProfileSummaryRow(" +
+            "p.userId, p.firstName, p.lastName, p.photoUrl) " +
+            "FROM Profile p JOIN User u ON u.id = p.userId " +
+            "WHERE p.userId IN :userIds AND p.deletedAt IS NULL AND u.deletedAt IS NULL")
+    List<ProfileSummaryRow> findSummariesByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
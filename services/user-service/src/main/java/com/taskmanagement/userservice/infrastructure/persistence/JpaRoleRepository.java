@@ -1,10 +1,29 @@
 package com.taskmanagement.userservice.infrastructure.persistence;
 
 import com.taskmanagement.userservice.domain.entity.Role;
+import com.taskmanagement.userservice.domain.projection.RoleGrantRow;
+import com.taskmanagement.userservice.domain.projection.RoleVersionStamp;
 import com.taskmanagement.userservice.domain.repository.RoleRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface JpaRoleRepository extends JpaRepository<Role, UUID>, RoleRepository {
+
+    /*
+    Every active role with its permissions in one round trip, folded by RbacSnapshot
+     */
+    @Override
+    @Query("SELECT new com.taskmanagement.userservice.domain.projection.RoleGrantRow(" +
+            "r.id, r.name, r.description, p.resource, p.action) " +
+            "FROM Role r LEFT JOIN r.permissions p " +
+            "WHERE r.deletedAt IS NULL")
+    List<RoleGrantRow> findAllGrants();
+
+    @Override
+    @Query("SELECT new com.taskmanagement.userservice.domain.projection.RoleVersionStamp(" +
+            "COUNT(r), COALESCE(SUM(r.version), 0L)) FROM Role r")
+    RoleVersionStamp findVersionStamp();
 }
@@ -0,0 +1,27 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import com.taskmanagement.userservice.domain.entity.TokenRevocation;
+import com.taskmanagement.userservice.domain.repository.TokenRevocationRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaTokenRevocationRepository extends JpaRepository<TokenRevocation, UUID>, TokenRevocationRepository {
+
+    @Override
+    @Query("SELECT t FROM TokenRevocation t WHERE t.revokedAt >= :since AND t.expiresAt > :now ORDER BY t.revokedAt")
+    List<TokenRevocation> findRevokedSince(@Param("since") Instant since, @Param("now") Instant now);
+
+    // bulk delete, no entity is loaded into the persistence context
+    @Override
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TokenRevocation t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,12 +1,46 @@
 package com.taskmanagement.userservice.infrastructure.persistence;
 
 import com.taskmanagement.userservice.domain.entity.User;
+import com.taskmanagement.userservice.domain.projection.UserAuthRow;
 import com.taskmanagement.userservice.domain.repository.UserRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface JpaUserRepository extends JpaRepository<User, UUID>, UserRepository {
+
+    /*
+    Authentication read model: id, hash and role names in one round trip
+    (no entity graph, no persistence-context entries), permissions are resolved from RbacSnapshot
+     */
+    @Override
+    @Query("SELECT new com.taskmanagement.userservice.domain.projection.UserAuthRow(" +
+            "u.id, u.email, u.password, r.name) " +
+            "FROM User u LEFT JOIN u.roles r " +
+            "WHERE u.email = :email")
+    List<UserAuthRow> findAuthRowsByEmail(@Param("email") String email);
+
+    @Override
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :passwordHash, u.updatedAt = :updatedAt WHERE u.id = :id")
+    int updatePasswordHash(@Param("id") UUID id,
+                           @Param("passwordHash") String passwordHash,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    /*
+    Role assignments changed since the last poll (users.roles_changed_at, set by triggers on user_roles)
+     */
+    @Override
+    @Query("SELECT u.id FROM User u WHERE u.rolesChangedAt > :since")
+    List<UUID> findIdsWithRolesChangedSince(@Param("since") Instant since);
 }
@@ -0,0 +1,61 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * QueryInspectionConfig: Statement inspection (app.db.inspection.enabled, on by default)
+ * - the "dataSource" bean (single pool or replica routing proxy) is wrapped once in InstrumentedDataSource
+ * - repositories are tagged, requests are tallied for N+1 detection
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.inspection.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInspectionConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public QueryInspector queryInspector(
+            MeterRegistry meterRegistry,
+            @Value("${app.db.inspection.slow-query-threshold:PT0.2S}") Duration slowQueryThreshold,
+            @Value("${app.db.inspection.slow-query-sample-rate:0.2}") double slowQuerySampleRate,
+            @Value("${app.db.inspection.n-plus-one-threshold:5}") int nPlusOneThreshold
+    ) {
+        return new QueryInspector(meterRegistry, slowQueryThreshold, slowQuerySampleRate, nPlusOneThreshold);
+    }
+
+    /*
+    static: post-processors are created before regular beans, the inspector is looked up on first use
+     */
+    @Bean
+    static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<QueryInspector> queryInspector) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource, queryInspector::getObject);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    static RepositoryMethodTagger repositoryMethodTagger() {
+        return new RepositoryMethodTagger();
+    }
+
+    @Bean
+    public QueryInspectionFilter queryInspectionFilter(QueryInspector queryInspector) {
+        return new QueryInspectionFilter(queryInspector);
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * QueryInspectionFilter: One statement tally per HTTP request, N+1 patterns are reported when it ends
+ * Runs before Spring Security so the user lookups done while authenticating are counted too
+ */
+@RequiredArgsConstructor
+public class QueryInspectionFilter extends OncePerRequestFilter implements Ordered {
+
+    private final QueryInspector queryInspector;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        queryInspector.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryInspector.endRequest(request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+}
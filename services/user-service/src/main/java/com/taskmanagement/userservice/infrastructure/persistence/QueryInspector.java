@@ -0,0 +1,257 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * QueryInspector: Per-statement metrics, sampled slow-query log and per-request N+1 detection
+ * - Fed by InstrumentedDataSource (every JDBC execute*, rows counted on the ResultSet)
+ * - source tag = repository method (RepositoryMethodTagger), else the @Transactional method
+ *   (flushes at commit), else "none" -> bounded by the code, not by the SQL text
+ * - db.query (timer, histogram), db.query.rows, db.query.slow, db.query.n_plus_one
+ * - No SQL parameters are ever logged, only the statement text (truncated)
+ * - Hot path allocates nothing once warm: meters are looked up by source, then by
+ *   statement type ordinal (no key strings), the type is read in place from the SQL
+ */
+@Slf4j
+public class QueryInspector {
+
+    private static final int MAX_LOGGED_SQL = 300;
+    private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+    private static final ThreadLocal<RequestTally> REQUEST = new ThreadLocal<>();
+    private static final StatementType[] KEYWORDS = {
+            StatementType.SELECT, StatementType.INSERT, StatementType.UPDATE, StatementType.DELETE
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowQueryThreshold;
+    private final double slowQuerySampleRate;
+    private final int nPlusOneThreshold;
+    // source -> one slot per StatementType, filled on first use
+    private final Map<String, AtomicReferenceArray<Meters>> meters = new ConcurrentHashMap<>();
+    // transaction name -> "Type.method", bounded by the code
+    private final Map<String, String> transactionSources = new ConcurrentHashMap<>();
+
+    public QueryInspector(
+            MeterRegistry meterRegistry,
+            Duration slowQueryThreshold,
+            double slowQuerySampleRate,
+            int nPlusOneThreshold
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThreshold = slowQueryThreshold;
+        this.slowQuerySampleRate = slowQuerySampleRate;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    /**
+     * Statements run inside work are tagged with the repository method (outermost call wins)
+     */
+    public static <T, X extends Throwable> T withRepositoryMethod(String source, ThrowingSupplier<T, X> work) throws X {
+        if (REPOSITORY_METHOD.get() != null) {
+            return work.get();
+        }
+        REPOSITORY_METHOD.set(source);
+        try {
+            return work.get();
+        } finally {
+            REPOSITORY_METHOD.remove();
+        }
+    }
+
+    /*
+    One HTTP request = one tally, statements are grouped by SQL text
+     */
+    public void beginRequest() {
+        REQUEST.set(new RequestTally());
+    }
+
+    public void endRequest(String request) {
+        RequestTally tally = REQUEST.get();
+        REQUEST.remove();
+        if (tally == null) {
+            return;
+        }
+        for (Map.Entry<String, StatementTally> entry : tally.statements.entrySet()) {
+            StatementTally statement = entry.getValue();
+            if (statement.executions < nPlusOneThreshold) {
+                continue;
+            }
+            meters(statement.source, statementType(entry.getKey())).nPlusOne.increment();
+            log.warn("N+1 suspected: request=\"{}\" source={} executions={} total_ms={} request_statements={} sql=\"{}\"",
+                    request, statement.source, statement.executions,
+                    TimeUnit.NANOSECONDS.toMillis(statement.nanos), tally.total, truncate(entry.getKey()));
+        }
+    }
+
+    /**
+     * Called once per execute, returns the source the statement was attributed to (for rows)
+     */
+    String recordExecution(String sql, long nanos, boolean failed) {
+        String source = currentSource();
+        StatementType type = statementType(sql);
+        Meters m = meters(source, type);
+        m.timer.record(nanos, TimeUnit.NANOSECONDS);
+
+        RequestTally tally = REQUEST.get();
+        if (tally != null && sql != null) {
+            tally.total++;
+            StatementTally statement = tally.statements.get(sql);
+            if (statement == null) {
+                statement = new StatementTally(source);
+                tally.statements.put(sql, statement);
+            }
+            statement.executions++;
+            statement.nanos += nanos;
+        }
+
+        if (nanos >= slowQueryThreshold.toNanos()) {
+            m.slow.increment();
+            if (ThreadLocalRandom.current().nextDouble() < slowQuerySampleRate) {
+                log.warn("Slow query: source={} type={} duration_ms={} failed={} sql=\"{}\"",
+                        source, type.tag, TimeUnit.NANOSECONDS.toMillis(nanos), failed, truncate(sql));
+            }
+        }
+        return source;
+    }
+
+    void recordRows(String source, String sql, long rows) {
+        meters(source, statementType(sql)).rows.record(rows);
+    }
+
+    private Meters meters(String source, StatementType type) {
+        AtomicReferenceArray<Meters> byType = meters.get(source);
+        if (byType == null) {
+            byType = meters.computeIfAbsent(source, key -> new AtomicReferenceArray<>(StatementType.values().length));
+        }
+        Meters m = byType.get(type.ordinal());
+        if (m == null) {
+            // registering twice returns the same meters, a lost race costs nothing
+            m = register(source, type.tag);
+            byType.compareAndSet(type.ordinal(), null, m);
+        }
+        return m;
+    }
+
+    private Meters register(String source, String type) {
+        return new Meters(
+                Timer.builder("db.query")
+                        .description("JDBC statement execution time")
+                        .tags("source", source, "statement", type)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(10))
+                        .register(meterRegistry),
+                DistributionSummary.builder("db.query.rows")
+                        .description("Rows read per result set")
+                        .tags("source", source, "statement", type)
+                        .register(meterRegistry),
+                Counter.builder("db.query.slow")
+                        .description("Statements slower than the slow-query threshold")
+                        .tags("source", source, "statement", type)
+                        .register(meterRegistry),
+                Counter.builder("db.query.n_plus_one")
+                        .description("Requests that repeated the same statement past the N+1 threshold")
+                        .tags("source", source, "statement", type)
+                        .register(meterRegistry)
+        );
+    }
+
+    private String currentSource() {
+        String repositoryMethod = REPOSITORY_METHOD.get();
+        if (repositoryMethod != null) {
+            return repositoryMethod;
+        }
+        String transaction = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transaction != null) {
+            String source = transactionSources.get(transaction);
+            return source != null ? source : transactionSources.computeIfAbsent(transaction, QueryInspector::shortName);
+        }
+        return "none";
+    }
+
+    /*
+    "com.x.UserServiceImpl.updateUserProfile" -> "UserServiceImpl.updateUserProfile"
+     */
+    private static String shortName(String transaction) {
+        int method = transaction.lastIndexOf('.');
+        int type = method > 0 ? transaction.lastIndexOf('.', method - 1) : -1;
+        return transaction.substring(type + 1);
+    }
+
+    /*
+    Leading keyword compared in place (case-insensitive), no substring / lowercase copy
+     */
+    static StatementType statementType(String sql) {
+        if (sql == null) {
+            return StatementType.BATCH;
+        }
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        for (StatementType keyword : KEYWORDS) {
+            if (end - start == keyword.tag.length() && sql.regionMatches(true, start, keyword.tag, 0, end - start)) {
+                return keyword;
+            }
+        }
+        return StatementType.OTHER;
+    }
+
+    private static String truncate(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String compact = sql.replaceAll("\\s+", " ").trim();
+        return compact.length() <= MAX_LOGGED_SQL ? compact : compact.substring(0, MAX_LOGGED_SQL) + "...";
+    }
+
+    @FunctionalInterface
+    public interface ThrowingSupplier<T, X extends Throwable> {
+        T get() throws X;
+    }
+
+    enum StatementType {
+        SELECT("select"), INSERT("insert"), UPDATE("update"), DELETE("delete"), OTHER("other"), BATCH("batch");
+
+        private final String tag;
+
+        StatementType(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private record Meters(Timer timer, DistributionSummary rows, Counter slow, Counter nPlusOne) {
+    }
+
+    private static final class RequestTally {
+        private final Map<String, StatementTally> statements = new LinkedHashMap<>();
+        private int total;
+    }
+
+    private static final class StatementTally {
+        private final String source;
+        private int executions;
+        private long nanos;
+
+        private StatementTally(String source) {
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * ReadYourWritesTracker: Who wrote recently, so their reads skip the (possibly lagging) replicas
+ * - Keys: "user:<id>" marked automatically by ReplicaRoutingDataSource on every read-write transaction
+ *   of an authenticated caller, or any explicit key (e.g. "email:<email>" on register -> first login)
+ * - Entries expire after the read-your-writes window, memory stays bounded
+ * - forcePrimary(...) pins every connection opened by the block to the primary
+ * Per instance: a read served by another instance isn't covered, the window bounds that staleness
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(
+            @Value("${app.datasource.replicas.read-your-writes-window:PT5S}") Duration window,
+            @Value("${app.datasource.replicas.read-your-writes-max-keys:100000}") long maxKeys
+    ) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void markWrite(String key) {
+        recentWriters.put(key, Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(String key) {
+        return recentWriters.getIfPresent(key) != null;
+    }
+
+    /**
+     * Current caller (authenticated user) wrote within the window, or the thread is pinned
+     */
+    public boolean mustReadPrimary() {
+        if (Boolean.TRUE.equals(FORCE_PRIMARY.get())) {
+            return true;
+        }
+        String key = currentUserKey();
+        return key != null && wroteRecently(key);
+    }
+
+    void markCurrentUserWrite() {
+        String key = currentUserKey();
+        if (key != null) {
+            markWrite(key);
+        }
+    }
+
+    public <T> T forcePrimary(Supplier<T> work) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    public static String userKey(Object userId) {
+        return "user:" + userId;
+    }
+
+    public static String emailKey(String email) {
+        return "email:" + email;
+    }
+
+    private static String currentUserKey() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails userDetails && userDetails.getId() != null) {
+            return userKey(userDetails.getId());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ReplicaDataSourceConfig: Primary + read replicas behind one DataSource (app.datasource.replicas.enabled)
+ * - primaryDataSource: the usual spring.datasource.* Hikari pool (writes, read-write transactions)
+ * - one Hikari pool per replica URL, same credentials unless overridden
+ * - dataSource (@Primary, used by JPA / JdbcTemplate / Flyway): lazy proxy -> ReplicaRoutingDataSource
+ * Disabled -> Spring Boot's single pool, nothing here is created
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replicas.urls}") List<String> urls,
+            @Value("${app.datasource.replicas.username:}") String username,
+            @Value("${app.datasource.replicas.password:}") String password,
+            @Value("${app.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${app.datasource.replicas.max-lag:PT5S}") Duration maxLag,
+            @Value("${app.datasource.replicas.connection-timeout:PT0.5S}") Duration connectionTimeout,
+            @Value("${app.datasource.replicas.validation-timeout:PT0.25S}") Duration validationTimeout
+    ) {
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(StringUtils.hasText(username) ? username : properties.determineUsername());
+            replica.setPassword(StringUtils.hasText(password) ? password : properties.determinePassword());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            // fail fast: a dead or saturated replica falls back to primary instead of stalling the request 30s
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setValidationTimeout(validationTimeout.toMillis());
+            replica.setReadOnly(true);
+            // replica down at startup must not keep the service from booting
+            replica.setInitializationFailTimeout(-1);
+            replica.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+            // not a bean, so Boot doesn't bind it: hikaricp.connections.*{pool=replica-N} by hand
+            replica.setMetricRegistry(meterRegistry);
+            replicas.add(new ReplicaRoutingDataSource.Replica(name, replica));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker, maxLag, meterRegistry);
+    }
+
+    /*
+    Lazy proxy: the physical connection is fetched at the first statement, after
+    @Transactional(readOnly = true) has been applied -> the routing decision can see it
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,217 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ReplicaRoutingDataSource: Read-only transactions -> a healthy replica, everything else -> primary
+ * - Must sit behind a LazyConnectionDataSourceProxy: the physical connection is then requested at the
+ *   first statement, once the transaction's read-only flag is known
+ * - Replicas are picked round-robin, unhealthy ones are skipped, none healthy -> primary
+ * - A replica that refuses a connection is marked down on the spot and the request falls back to primary;
+ *   the health check (connectivity + replay lag) brings it back
+ * - Read-your-writes: callers that wrote within the window (ReadYourWritesTracker) read from primary
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    // lag in seconds, 0 when the replica has replayed everything it received (idle primary)
+    private static final String REPLICA_LAG_SQL =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Duration maxLag;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            List<Replica> replicas,
+            ReadYourWritesTracker readYourWritesTracker,
+            Duration maxLag,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLag = maxLag;
+        this.primaryRoutes = routeCounter(meterRegistry, "primary");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica");
+        this.fallbacks = Counter.builder("datasource.routing.fallback")
+                .description("Read-only connections sent to primary because no replica was usable")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replicas.healthy", this.replicas,
+                        list -> list.stream().filter(Replica::isHealthy).count())
+                .description("Replicas currently eligible for reads")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!routeToReplica()) {
+            return primaryConnection();
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+            if (!replica.isHealthy()) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource().getConnection();
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException ex) {
+                if (isPoolExhausted(ex)) {
+                    // replica is fine, just busy: try the next one, leave its health to the probe
+                    log.debug("Replica {} pool exhausted: {}", replica.name(), ex.getMessage());
+                    continue;
+                }
+                log.warn("Replica {} refused a connection, marking it down: {}", replica.name(), ex.getMessage());
+                replica.setHealthy(false);
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // explicit credentials only ever come from admin tooling, never routed
+        return primary.getConnection(username, password);
+    }
+
+    /*
+    Replica up = accepts a connection and (PostgreSQL) replays within max-lag
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval:PT5S}",
+            initialDelayString = "${app.datasource.replicas.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy = probe(replica);
+            if (healthy != replica.isHealthy()) {
+                log.info("Replica {} is now {}", replica.name(), healthy ? "UP" : "DOWN");
+            }
+            replica.setHealthy(healthy);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.warn("Failed to close replica pool {}: {}", replica.name(), ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean routeToReplica() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        return !readYourWritesTracker.mustReadPrimary();
+    }
+
+    private Connection primaryConnection() throws SQLException {
+        primaryRoutes.increment();
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // read-write transaction: this caller's next reads must see it
+            readYourWritesTracker.markCurrentUserWrite();
+        }
+        return primary.getConnection();
+    }
+
+    private boolean probe(Replica replica) {
+        try (Connection connection = replica.dataSource().getConnection()) {
+            if (!connection.isValid(1)) {
+                return false;
+            }
+            if (maxLag == null || maxLag.isZero()) {
+                return true;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(REPLICA_LAG_SQL)) {
+                double lagSeconds = rs.next() ? rs.getDouble(1) : 0;
+                if (lagSeconds * 1000 > maxLag.toMillis()) {
+                    log.warn("Replica {} lags {}s behind primary", replica.name(), lagSeconds);
+                    return false;
+                }
+                return true;
+            }
+        } catch (SQLException ex) {
+            if (isPoolExhausted(ex)) {
+                return replica.isHealthy(); // every connection busy serving reads, no verdict
+            }
+            log.debug("Replica {} health check failed: {}", replica.name(), ex.getMessage());
+            return false;
+        }
+    }
+
+    /*
+    Hikari timeout with no underlying cause = every connection is checked out;
+    an unreachable database shows up as the cause (last connection failure)
+     */
+    static boolean isPoolExhausted(SQLException ex) {
+        return ex instanceof SQLTransientConnectionException && ex.getCause() == null;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing")
+                .description("Physical connections handed out per target")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        void setHealthy(boolean healthy) {
+            this.healthy = healthy;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Repository;
+
+/**
+ * RepositoryMethodTagger: Statements get the repository method that issued them as "source"
+ * - Spring Data repositories (already proxies): one more advice, first in the chain
+ * - JDBC repositories (@Repository classes in this package): wrapped in a JDK proxy
+ */
+public class RepositoryMethodTagger implements BeanPostProcessor, BeanClassLoaderAware {
+
+    private static final String PACKAGE = RepositoryMethodTagger.class.getPackageName();
+
+    private ClassLoader classLoader;
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        String repository = repositoryName(bean);
+        if (repository == null) {
+            return bean;
+        }
+        MethodInterceptor tagger = invocation -> QueryInspector.withRepositoryMethod(
+                repository + "." + invocation.getMethod().getName(), invocation::proceed);
+        if (bean instanceof Advised advised) {
+            if (!advised.isFrozen()) {
+                advised.addAdvice(0, tagger);
+            }
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(tagger);
+        return proxyFactory.getProxy(classLoader);
+    }
+
+    private static String repositoryName(Object bean) {
+        if (bean instanceof Advised advised) {
+            for (Class<?> type : advised.getProxiedInterfaces()) {
+                if (isRepository(type)) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        return isRepository(targetClass) ? targetClass.getSimpleName() : null;
+    }
+
+    private static boolean isRepository(Class<?> type) {
+        return PACKAGE.equals(type.getPackageName()) && AnnotatedElementUtils.hasAnnotation(type, Repository.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import com.taskmanagement.userservice.infrastructure.security.AuthMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * ResetTokenPartitionMaintenance: Daily partitions of password_reset_tokens (PostgreSQL)
+ * - Creates partitions <days-ahead> days in advance
+ * - Drops partitions whose whole range expired more than <retention-days> ago:
+ *   detach + drop is a metadata operation, no row-by-row delete, no table bloat
+ * - Disabled where the table isn't partitioned (H2 tests)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.password-reset.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class ResetTokenPartitionMaintenance {
+
+    private static final String TABLE = "password_reset_tokens";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE; // yyyyMMdd
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuthMetrics authMetrics;
+
+    @Value("${app.password-reset.partitions.days-ahead:14}")
+    private int daysAhead;
+
+    @Value("${app.password-reset.partitions.retention-days:1}")
+    private int retentionDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "0 5 * * * ?") // Runs every hour
+    public void maintain() {
+        LocalDate today = LocalDate.now();
+        for (int i = -1; i <= daysAhead; i++) {
+            createPartition(today.plusDays(i));
+        }
+        dropPartitionsBefore(today.minusDays(retentionDays));
+    }
+
+    private void createPartition(LocalDate day) {
+        String sql = "CREATE TABLE IF NOT EXISTS " + PARTITION_PREFIX + day.format(SUFFIX) +
+                " PARTITION OF " + TABLE +
+                " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')";
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (DataAccessException ex) {
+            // e.g. the default partition already holds rows of that day
+            log.error("Could not create partition for {}: {}", day, ex.getMessage());
+        }
+    }
+
+    private void dropPartitionsBefore(LocalDate cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent " +
+                        "WHERE p.relname = ?", String.class, TABLE);
+        for (String partition : partitions) {
+            if (!partition.startsWith(PARTITION_PREFIX)) {
+                continue; // default partition
+            }
+            LocalDate day = LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+            // upper bound is day + 1, every token in it expired before the cutoff
+            if (!day.plusDays(1).isAfter(cutoff)) {
+                try {
+                    jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                    authMetrics.resetPartitionDropped();
+                    log.info("Dropped expired reset-token partition {}", partition);
+                } catch (DataAccessException ex) {
+                    log.error("Could not drop partition {}: {}", partition, ex.getMessage());
+                }
+            }
+        }
+    }
+}
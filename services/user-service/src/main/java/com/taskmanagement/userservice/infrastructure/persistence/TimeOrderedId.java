@@ -0,0 +1,18 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Entity id generated by UuidIdGenerator: random UUIDv4 by default,
+ * app.id.uuid-style=v7 switches every entity to time-ordered UUIDv7
+ */
+@IdGeneratorType(UuidIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
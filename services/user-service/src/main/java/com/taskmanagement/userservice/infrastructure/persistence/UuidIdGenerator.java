@@ -0,0 +1,42 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * UuidIdGenerator: Hibernate id generator behind @TimeOrderedId
+ * Style is read once from the Hibernate settings (spring.jpa.properties.app.id.uuid-style):
+ * - random (default): UUID.randomUUID(), what GenerationType.UUID produced before
+ * - v7: UuidV7, time-ordered, opt-in until benchmarks/uuid-insert-benchmark.sql results are in
+ */
+public class UuidIdGenerator implements BeforeExecutionGenerator {
+
+    public static final String STYLE_SETTING = "app.id.uuid-style";
+
+    private final Supplier<UUID> strategy;
+
+    public UuidIdGenerator(TimeOrderedId config, Member member, CustomIdGeneratorCreationContext context) {
+        ConfigurationService configuration = context.getServiceRegistry().getService(ConfigurationService.class);
+        Object style = configuration.getSettings().get(STYLE_SETTING);
+        this.strategy = "v7".equalsIgnoreCase(String.valueOf(style)) ? UuidV7::generate : UUID::randomUUID;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return strategy.get();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskmanagement.userservice.infrastructure.persistence;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UuidV7: Time-ordered UUIDs (RFC 9562 version 7)
+ * - 48-bit unix millis | version | 12-bit sequence | variant | 62 random bits
+ * - Monotonic within this JVM: ids created in the same millisecond take the next sequence value,
+ *   sequence overflow borrows the next millisecond instead of going backwards
+ * - Consecutive inserts land on the right-most B-tree page instead of a random one
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final long SEQUENCE_BITS = 12;
+
+    // (unix millis << 12) | sequence of the last id handed out
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long next = LAST.updateAndGet(last -> Math.max(now, last + 1));
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+
+        long msb = (millis << 16) | 0x7000L | sequence;
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Creation time encoded in a version 7 id
+     */
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthMetrics: Meters of the authentication hot paths
+ * - auth.token.verification{outcome}: JWT verify + revocation check, timed in JwtAuthenticationFilter
+ * - auth.token.absent: requests without a bearer token (nothing verified, so not a timer sample)
+ * - auth.login{outcome, reason}: login attempts by result
+ * - auth.password_reset.tokens.*: reset tokens issued / purged, expired partitions dropped
+ * - Every meter is registered once up front (one per enum constant), recording is a map/array
+ *   lookup: no tag building or registry lookup per request
+ * - Password hash/match latency stays in PasswordHashingEngine (password.hashing{operation})
+ */
+@Component
+public class AuthMetrics {
+
+    public enum TokenOutcome {
+        VALID, INVALID, REVOKED
+    }
+
+    public enum LoginFailure {
+        BAD_CREDENTIALS, ACCOUNT_DISABLED, ACCOUNT_LOCKED, HASHING_SATURATED, OTHER
+    }
+
+    private final Timer[] tokenVerification = new Timer[TokenOutcome.values().length];
+    private final Counter tokenAbsent;
+    private final Counter loginSuccess;
+    private final Map<LoginFailure, Counter> loginFailures = new EnumMap<>(LoginFailure.class);
+    private final Counter resetTokensCreated;
+    private final Counter resetTokensPurged;
+    private final Counter resetPartitionsDropped;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        for (TokenOutcome outcome : TokenOutcome.values()) {
+            tokenVerification[outcome.ordinal()] = Timer.builder("auth.token.verification")
+                    .description("Bearer token verification (signature or cache hit + revocation check)")
+                    .tag("outcome", tagValue(outcome))
+                    .register(meterRegistry);
+        }
+        this.tokenAbsent = Counter.builder("auth.token.absent")
+                .description("Requests without a bearer token")
+                .register(meterRegistry);
+        this.loginSuccess = Counter.builder("auth.login")
+                .description("Login attempts")
+                .tag("outcome", "success")
+                .tag("reason", "none")
+                .register(meterRegistry);
+        for (LoginFailure reason : LoginFailure.values()) {
+            loginFailures.put(reason, Counter.builder("auth.login")
+                    .description("Login attempts")
+                    .tag("outcome", "failure")
+                    .tag("reason", tagValue(reason))
+                    .register(meterRegistry));
+        }
+        this.resetTokensCreated = Counter.builder("auth.password_reset.tokens.created")
+                .description("Password reset tokens issued")
+                .register(meterRegistry);
+        this.resetTokensPurged = Counter.builder("auth.password_reset.tokens.purged")
+                .description("Expired password reset tokens deleted by the cleanup job")
+                .register(meterRegistry);
+        this.resetPartitionsDropped = Counter.builder("auth.password_reset.partitions.dropped")
+                .description("Expired password_reset_tokens partitions dropped")
+                .register(meterRegistry);
+    }
+
+    public void recordTokenVerification(TokenOutcome outcome, long elapsedNanos) {
+        tokenVerification[outcome.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void tokenAbsent() {
+        tokenAbsent.increment();
+    }
+
+    public void loginSucceeded() {
+        loginSuccess.increment();
+    }
+
+    public void loginFailed(LoginFailure reason) {
+        loginFailures.get(reason).increment();
+    }
+
+    public void resetTokenCreated() {
+        resetTokensCreated.increment();
+    }
+
+    public void resetTokensPurged(int count) {
+        if (count > 0) {
+            resetTokensPurged.increment(count);
+        }
+    }
+
+    public void resetPartitionDropped() {
+        resetPartitionsDropped.increment();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
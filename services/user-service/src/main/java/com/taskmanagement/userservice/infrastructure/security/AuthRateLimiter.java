@@ -0,0 +1,130 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanagement.userservice.domain.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AuthRateLimiter: Token-bucket throttling of the authentication endpoints, per client IP and per email
+ * - GCRA: a bucket is one AtomicLong (theoretical arrival time), a check is a single CAS, no locks
+ * - Keys live in a size-bounded Caffeine cache, idle keys expire after one period (their bucket is full again)
+ * - Called by AuthController before any DB or password-hashing work
+ * - Per endpoint: security.rate-limit.<endpoint>.period / .ip-limit / .email-limit (0 disables a dimension)
+ */
+@Slf4j
+@Component
+public class AuthRateLimiter {
+
+    public enum Endpoint {
+        LOGIN("login", Duration.ofMinutes(1), 30, 10),
+        REGISTER("register", Duration.ofMinutes(1), 10, 3),
+        REFRESH_TOKEN("refresh-token", Duration.ofMinutes(1), 60, 0),
+        FORGOT_PASSWORD("forgot-password", Duration.ofMinutes(15), 10, 3),
+        RESET_PASSWORD("reset-password", Duration.ofMinutes(15), 10, 0);
+
+        private final String key;
+        private final Duration defaultPeriod;
+        private final int defaultIpLimit;
+        private final int defaultEmailLimit;
+
+        Endpoint(String key, Duration defaultPeriod, int defaultIpLimit, int defaultEmailLimit) {
+            this.key = key;
+            this.defaultPeriod = defaultPeriod;
+            this.defaultIpLimit = defaultIpLimit;
+            this.defaultEmailLimit = defaultEmailLimit;
+        }
+    }
+
+    private final boolean enabled;
+    private final Cache<String, AtomicLong> buckets;
+    private final Map<Endpoint, Rule> ipRules = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Rule> emailRules = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Counter> rejected = new EnumMap<>(Endpoint.class);
+
+    public AuthRateLimiter(Environment environment, MeterRegistry meterRegistry) {
+        this.enabled = environment.getProperty("security.rate-limit.enabled", Boolean.class, true);
+        Duration longestPeriod = Duration.ZERO;
+        for (Endpoint endpoint : Endpoint.values()) {
+            String prefix = "security.rate-limit." + endpoint.key + ".";
+            Duration period = environment.getProperty(prefix + "period", Duration.class, endpoint.defaultPeriod);
+            int ipLimit = environment.getProperty(prefix + "ip-limit", Integer.class, endpoint.defaultIpLimit);
+            int emailLimit = environment.getProperty(prefix + "email-limit", Integer.class, endpoint.defaultEmailLimit);
+            ipRules.put(endpoint, Rule.of(ipLimit, period));
+            emailRules.put(endpoint, Rule.of(emailLimit, period));
+            rejected.put(endpoint, Counter.builder("auth.rate_limit.rejected")
+                    .description("Authentication requests rejected by the rate limiter")
+                    .tag("endpoint", endpoint.key)
+                    .register(meterRegistry));
+            longestPeriod = period.compareTo(longestPeriod) > 0 ? period : longestPeriod;
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(environment.getProperty("security.rate-limit.max-keys", Long.class, 100_000L))
+                // an idle bucket refills completely within its period, dropping it loses nothing
+                .expireAfterAccess(longestPeriod)
+                .build();
+    }
+
+    /**
+     * Take one token from the IP bucket and, when given, the email bucket
+     * Throws RateLimitExceededException (429) when either bucket is empty
+     */
+    public void check(Endpoint endpoint, String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (clientIp != null) {
+            acquire(endpoint, ipRules.get(endpoint), "ip:" + clientIp, now);
+        }
+        if (email != null) {
+            acquire(endpoint, emailRules.get(endpoint), "email:" + email.trim().toLowerCase(Locale.ROOT), now);
+        }
+    }
+
+    private void acquire(Endpoint endpoint, Rule rule, String subject, long now) {
+        if (rule == null) {
+            return;
+        }
+        AtomicLong bucket = buckets.get(endpoint.key + '|' + subject, k -> new AtomicLong(now));
+        while (true) {
+            long tat = bucket.get();
+            long next = Math.max(tat, now) + rule.intervalNanos();
+            long waitNanos = next - rule.periodNanos() - now;
+            if (waitNanos > 0) {
+                rejected.get(endpoint).increment();
+                log.debug("Rate limit hit on {} for {}", endpoint.key, subject);
+                throw new RateLimitExceededException("Too many requests, please retry later",
+                        Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return;
+            }
+        }
+    }
+
+    /*
+    limit requests per period, all of them may arrive as one burst
+     */
+    private record Rule(long intervalNanos, long periodNanos) {
+
+        static Rule of(int limit, Duration period) {
+            if (limit <= 0) {
+                return null;
+            }
+            long periodNanos = period.toNanos();
+            return new Rule(periodNanos / limit, periodNanos);
+        }
+    }
+}
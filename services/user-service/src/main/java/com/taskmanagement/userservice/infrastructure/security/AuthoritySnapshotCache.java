@@ -0,0 +1,74 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * AuthoritySnapshotCache: userId -> authorities used to mint tokens on refresh
+ * - Filled on login, the refresh fast path reads it instead of reloading user + roles + permissions
+ * - Snapshots never hold the password hash
+ * - invalidate() on credential changes and role (un)assignments (RoleAssignmentWatcher),
+ *   invalidateAll() on role definition changes (RbacRegistry), the TTL is only a backstop
+ */
+@Component
+public class AuthoritySnapshotCache {
+
+    private static final String CACHE_NAME = "auth.authorities";
+
+    private final Cache<UUID, CustomUserDetails> cache;
+
+    public AuthoritySnapshotCache(
+            @Value("${jwt.refresh.authority-cache.maximum-size:100000}") long maximumSize,
+            @Value("${jwt.refresh.authority-cache.ttl:PT15M}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public void put(CustomUserDetails userDetails) {
+        cache.put(userDetails.getId(), snapshot(userDetails));
+    }
+
+    /**
+     * Cached snapshot, or load it (DB) on miss
+     */
+    public CustomUserDetails get(UUID userId, Supplier<CustomUserDetails> loader) {
+        return cache.get(userId, id -> snapshot(loader.get()));
+    }
+
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static CustomUserDetails snapshot(CustomUserDetails userDetails) {
+        return new CustomUserDetails(
+                userDetails.getId(),
+                userDetails.getEmail(),
+                null,
+                List.copyOf(userDetails.getAuthorities()),
+                userDetails.getPermissions(),
+                userDetails.isEnabled(),
+                userDetails.isAccountNonExpired(),
+                userDetails.isAccountNonLocked(),
+                userDetails.isCredentialsNonExpired()
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * BCryptStrengthCalibrator: Pick the BCrypt work factor for this node at startup
+ * - Measures one hash per strength, starting at minStrength (never weaker than that)
+ * - Each +1 doubles the cost, stops at the first strength over the latency budget
+ * - Result is the strongest setting whose measured hash time fits the budget
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        long budgetNanos = targetLatency.toNanos();
+        int chosen = minStrength;
+        measure(minStrength); // warm up JIT before timing
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long nanos = measure(strength);
+            log.debug("BCrypt strength {} takes {} ms per hash", strength, nanos / 1_000_000);
+            if (nanos > budgetNanos) {
+                if (strength == minStrength) {
+                    log.warn("BCrypt strength {} already exceeds the {} ms budget ({} ms), keeping the minimum",
+                            strength, targetLatency.toMillis(), nanos / 1_000_000);
+                }
+                break;
+            }
+            chosen = strength;
+        }
+        log.info("Calibrated BCrypt strength {} for a {} ms per-hash budget", chosen, targetLatency.toMillis());
+        return chosen;
+    }
+
+    // best of a few runs, ignores one-off GC / scheduling noise
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
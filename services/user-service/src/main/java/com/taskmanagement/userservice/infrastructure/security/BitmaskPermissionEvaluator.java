@@ -0,0 +1,44 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import com.taskmanagement.userservice.domain.entity.Action;
+import com.taskmanagement.userservice.domain.entity.Resource;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * BitmaskPermissionEvaluator: Backs hasPermission(...) in @PreAuthorize
+ * - @PreAuthorize("hasPermission('TASK', 'UPDATE')") -> one bit test on the principal's mask
+ * - No scan over the authorities collection, unknown names are simply denied
+ */
+public class BitmaskPermissionEvaluator implements PermissionEvaluator {
+
+    private static final Map<String, Resource> RESOURCES = Arrays.stream(Resource.values())
+            .collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+    private static final Map<String, Action> ACTIONS = Arrays.stream(Action.values())
+            .collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return false;
+        }
+        Resource resource = targetDomainObject instanceof Resource r ? r : RESOURCES.get(String.valueOf(targetDomainObject));
+        Action action = permission instanceof Action a ? a : ACTIONS.get(String.valueOf(permission));
+        return resource != null && action != null
+                && PermissionMask.has(userDetails.getPermissions(), resource, action);
+    }
+
+    /*
+    hasPermission(#id, 'TASK', 'READ') - permissions are per resource type, the id is not used
+     */
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        return hasPermission(authentication, targetType, permission);
+    }
+}
@@ -1,14 +1,17 @@
 package com.taskmanagement.userservice.infrastructure.security;
 
 import com.taskmanagement.userservice.domain.entity.Role;
-import com.taskmanagement.userservice.domain.entity.RolePermission;
 import com.taskmanagement.userservice.domain.entity.User;
+import com.taskmanagement.userservice.domain.projection.UserAuthRow;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
 import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
@@ -18,40 +21,91 @@ import org.springframework.security.core.userdetails.UserDetails;
 /**
  * CustomUserDetails: Wrapper class for User entity
  * Implement UserDetails for Spring Security can use it
+ * - authorities: ROLE_* only
+ * - permissions: Resource x Action bitmask (PermissionMask), checked by BitmaskPermissionEvaluator
  */
 @Getter
-@AllArgsConstructor
 public class CustomUserDetails implements UserDetails, CredentialsContainer {
 
+    // tokens only carry a handful of distinct role names -> one shared authority object per name
+    private static final Map<String, GrantedAuthority> ROLE_AUTHORITIES = new ConcurrentHashMap<>();
+
     private UUID id;
     private String email;
     private String password;
     private final Collection<? extends GrantedAuthority> authorities;
+    private final int permissions;
 
     private final boolean enabled;
     private final boolean accountNonExpired;
     private final boolean accountNonLocked;
     private final boolean credentialNonExpired;
 
+    public CustomUserDetails(
+        UUID id,
+        String email,
+        String password,
+        Collection<? extends GrantedAuthority> authorities,
+        int permissions,
+        boolean enabled,
+        boolean accountNonExpired,
+        boolean accountNonLocked,
+        boolean credentialNonExpired
+    ) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.authorities = authorities;
+        this.permissions = permissions;
+        this.enabled = enabled;
+        this.accountNonExpired = accountNonExpired;
+        this.accountNonLocked = accountNonLocked;
+        this.credentialNonExpired = credentialNonExpired;
+    }
+
+    /**
+     * Plain authority list, "RESOURCE:ACTION" entries are folded into the permission mask
+     */
+    public CustomUserDetails(
+        UUID id,
+        String email,
+        String password,
+        Collection<? extends GrantedAuthority> authorities,
+        boolean enabled,
+        boolean accountNonExpired,
+        boolean accountNonLocked,
+        boolean credentialNonExpired
+    ) {
+        this(
+            id,
+            email,
+            password,
+            authorities == null ? null : roleAuthorities(authorities),
+            authorities == null ? PermissionMask.NONE : permissionMask(authorities),
+            enabled,
+            accountNonExpired,
+            accountNonLocked,
+            credentialNonExpired
+        );
+    }
+
     /**
      * Factory method: Convert User entity → CustomUserDetails
      * Call by class not instance so this function needs *static*
      */
     public static CustomUserDetails fromUser(User user) {
         /*
-            Convert Roles/Permission to GrantedAuthority
+            Roles -> GrantedAuthority, Permissions -> bitmask
             Handle null or empty roles
          */
         Collection<GrantedAuthority> authorities = new ArrayList<>();
+        int permissions = PermissionMask.NONE;
 
         if(user.getRoles() != null && !user.getRoles().isEmpty()){
             for(Role role : user.getRoles()){
-                authorities.add(new SimpleGrantedAuthority("ROLE_" + role.getName()));
+                authorities.add(roleAuthority("ROLE_" + role.getName()));
                 if(role.getPermissions() != null && !role.getPermissions().isEmpty()){
-                    for(RolePermission permission : role.getPermissions()){
-                        String authority = permission.getResource() + ":" + permission.getAction();
-                        authorities.add(new SimpleGrantedAuthority(authority));
-                    }
+                    permissions |= PermissionMask.of(role.getPermissions());
                 }
             }
         }
@@ -61,6 +115,27 @@ public class CustomUserDetails implements UserDetails, CredentialsContainer {
             user.getEmail(),
             user.getPassword(),
             authorities,
+            permissions,
+            true,
+            true,
+            true,
+            true
+        );
+    }
+
+    /**
+     * Factory method: Authentication rows (one per role) of one user + role definitions from the RBAC snapshot
+     */
+    public static CustomUserDetails fromAuthRows(List<UserAuthRow> rows, RbacSnapshot rbac) {
+        UserAuthRow first = rows.get(0);
+        RbacSnapshot.Grants grants = rbac.grantsOf(roleNames(rows));
+
+        return new CustomUserDetails(
+            first.userId(),
+            first.email(),
+            first.passwordHash(),
+            grants.authorities(),
+            grants.permissionMask(),
             true,
             true,
             true,
@@ -68,6 +143,16 @@ public class CustomUserDetails implements UserDetails, CredentialsContainer {
         );
     }
 
+    public static Set<String> roleNames(List<UserAuthRow> rows) {
+        Set<String> roleNames = new LinkedHashSet<>();
+        for (UserAuthRow row : rows) {
+            if (row.roleName() != null) {
+                roleNames.add(row.roleName());
+            }
+        }
+        return roleNames;
+    }
+
     /**
      * Factory method: Create CustomUserDetails from JWT claims
      * Use this for authentication without database query
@@ -77,17 +162,31 @@ public class CustomUserDetails implements UserDetails, CredentialsContainer {
         String email,
         Collection<String> roles
     ) {
-        // Convert a String role to GrantedAuthority
-        Collection<GrantedAuthority> authorities = roles
-            .stream()
-            .map(SimpleGrantedAuthority::new)
-            .collect(Collectors.toList());
+        return fromJwtClaims(userId, email, roles, PermissionMask.NONE);
+    }
+
+    public static CustomUserDetails fromJwtClaims(
+        UUID userId,
+        String email,
+        Collection<String> roles,
+        int permissions
+    ) {
+        // Convert a String role to a shared GrantedAuthority, legacy permission strings go into the mask
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            if (PermissionMask.isPermissionAuthority(role)) {
+                permissions |= PermissionMask.fromAuthority(role);
+            } else {
+                authorities.add(roleAuthority(role));
+            }
+        }
 
         return new CustomUserDetails(
             userId,
             email,
             null, // No password needed for JWT authentication
             authorities,
+            permissions,
             true,
             true,
             true,
@@ -95,6 +194,30 @@ public class CustomUserDetails implements UserDetails, CredentialsContainer {
         );
     }
 
+    private static GrantedAuthority roleAuthority(String role) {
+        return ROLE_AUTHORITIES.computeIfAbsent(role, SimpleGrantedAuthority::new);
+    }
+
+    private static List<GrantedAuthority> roleAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        List<GrantedAuthority> roles = new ArrayList<>(authorities.size());
+        for (GrantedAuthority authority : authorities) {
+            if (!PermissionMask.isPermissionAuthority(authority.getAuthority())) {
+                roles.add(authority);
+            }
+        }
+        return roles;
+    }
+
+    private static int permissionMask(Collection<? extends GrantedAuthority> authorities) {
+        int mask = PermissionMask.NONE;
+        for (GrantedAuthority authority : authorities) {
+            if (PermissionMask.isPermissionAuthority(authority.getAuthority())) {
+                mask |= PermissionMask.fromAuthority(authority.getAuthority());
+            }
+        }
+        return mask;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -1,24 +1,33 @@
 package com.taskmanagement.userservice.infrastructure.security;
 
-import com.taskmanagement.userservice.domain.entity.User;
+import com.taskmanagement.userservice.domain.projection.UserAuthRow;
 import com.taskmanagement.userservice.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
 /**
  * CustomUserDetailsService load user from Database
  * Spring Security invoked this service when authenticate
+ * Also stores the rehashed password when the encoder reports an outdated hash on login
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final RbacRegistry rbacRegistry;
 
     /**
      * When user login or validate JWT
@@ -27,10 +36,39 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException(
-                        "User not found with email " + email
-                ));
-        return CustomUserDetails.fromUser(user);
+        // single query: id, hash and role names (no User entity graph)
+        List<UserAuthRow> rows = userRepository.findAuthRowsByEmail(email);
+        if (rows.isEmpty()) {
+            throw new UsernameNotFoundException("User not found with email " + email);
+        }
+        RbacSnapshot rbac = rbacRegistry.current();
+        if (!rbac.containsAll(CustomUserDetails.roleNames(rows))) {
+            // role created after the last poll
+            rbac = rbacRegistry.refresh();
+        }
+        return CustomUserDetails.fromAuthRows(rows, rbac);
+    }
+
+    /**
+     * Invoked by DaoAuthenticationProvider after a successful login with an outdated hash
+     * Single UPDATE of password_hash, no reload of the user graph
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        CustomUserDetails userDetails = (CustomUserDetails) user;
+        userRepository.updatePasswordHash(userDetails.getId(), newPassword, LocalDateTime.now(ZoneId.of("UTC")));
+        log.debug("Rehashed password of user {} with current parameters", userDetails.getId());
+        return new CustomUserDetails(
+                userDetails.getId(),
+                userDetails.getEmail(),
+                newPassword,
+                userDetails.getAuthorities(),
+                userDetails.getPermissions(),
+                userDetails.isEnabled(),
+                userDetails.isAccountNonExpired(),
+                userDetails.isAccountNonLocked(),
+                userDetails.isCredentialsNonExpired()
+        );
     }
 }
@@ -0,0 +1,65 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * JtiBloomFilter: Probabilistic pre-filter for revoked token ids
+ * - mightContain == false -> token is definitely not revoked (the common case, no map lookup)
+ * - mightContain == true  -> confirm against the exact set
+ * - Lock-free reads and writes, entries can't be removed -> rebuilt by TokenRevocationStore on purge
+ */
+final class JtiBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    JtiBloomFilter(long expectedEntries, double falsePositiveRate) {
+        long n = Math.max(1L, expectedEntries);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8L, Math.max(1L, (m + 63) / 64));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void put(UUID jti) {
+        long h1 = mix(jti.getMostSignificantBits() ^ jti.getLeastSignificantBits());
+        long h2 = mix(jti.getLeastSignificantBits()) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(UUID jti) {
+        long h1 = mix(jti.getMostSignificantBits() ^ jti.getLeastSignificantBits());
+        long h2 = mix(jti.getLeastSignificantBits()) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // murmur3 fmix64 - spreads the bits of random UUIDs into independent hashes
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
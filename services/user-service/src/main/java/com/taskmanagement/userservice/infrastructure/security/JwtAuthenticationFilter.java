@@ -1,13 +1,13 @@
 package com.taskmanagement.userservice.infrastructure.security;
 
 import com.taskmanagement.userservice.application.utils.JwtUtil;
+import com.taskmanagement.userservice.application.utils.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -21,7 +21,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 /**
  * JwtAuthenticationFilter: Intercept mọi HTTP request
  * - Extract JWT từ Authorization header
- * - Validate JWT
+ * - Validate JWT (parsed and verified once, claims read from VerifiedToken)
+ * - Reject revoked tokens (in-memory denylist, no DB hit)
+ * - Time verification per outcome (AuthMetrics, meters registered up front)
  * - Set authentication for SecurityContext
  */
 @Component
@@ -30,6 +32,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final AuthMetrics authMetrics;
 
     @Override
     protected void doFilterInternal(
@@ -40,18 +44,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             // Extract jwt from request -> getHeader
             String jwt = getJwtFromRequest(request);
-            // Validate token
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                String username = jwtUtil.extractUsername(jwt);
-                UUID userId = jwtUtil.extractUserId(jwt);
-                String email = jwtUtil.extractEmail(jwt);
-                List<String> roles = jwtUtil.extractRole(jwt);
+            // Validate token - single parse, all claims come from the verified token
+            Optional<VerifiedToken> verified = Optional.empty();
+            boolean revoked = false;
+            if (StringUtils.hasText(jwt)) {
+                long start = System.nanoTime();
+                verified = jwtUtil.verify(jwt);
+                revoked = verified.isPresent() && tokenRevocationStore.isRevoked(verified.get());
+                authMetrics.recordTokenVerification(
+                    verified.isEmpty() ? AuthMetrics.TokenOutcome.INVALID
+                        : revoked ? AuthMetrics.TokenOutcome.REVOKED
+                        : AuthMetrics.TokenOutcome.VALID,
+                    System.nanoTime() - start
+                );
+            } else {
+                authMetrics.tokenAbsent();
+            }
+            if (revoked) {
+                log.debug("Rejected revoked token for user: {}", verified.get().subject());
+            } else if (verified.isPresent()) {
+                VerifiedToken token = verified.get();
 
                 // Build UserDetails from JWT claims
                 UserDetails userDetails = CustomUserDetails.fromJwtClaims(
-                    userId,
-                    email,
-                    roles
+                    token.userId(),
+                    token.email(),
+                    token.roles(),
+                    token.permissions()
                 );
 
                 // create an authentication object
@@ -67,7 +86,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     new WebAuthenticationDetailsSource().buildDetails(request)
                 );
                 // set authentication vào SecurityContext -> Spring Security knơw that user is authenticated
-                log.debug("Set authentication for user: {}", username);
+                log.debug("Set authentication for user: {}", token.subject());
                 // must check null to avoid override authenticated
                 if (
                     SecurityContextHolder.getContext().getAuthentication() ==
@@ -0,0 +1,167 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import com.taskmanagement.userservice.domain.exception.HashingCapacityExceededException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PasswordHashingEngine: PasswordEncoder that runs the (deliberately slow) hashing on its own pool
+ * - At most <threads> hashes run at once (default: one per core), request threads only wait
+ * - Bounded wait queue, when it is full callers fail fast with HashingCapacityExceededException (429)
+ *   instead of piling up on Tomcat threads and starving cheap endpoints
+ * - Metrics: password.hashing.queue.depth, password.hashing.active, password.hashing{operation}
+ * Every existing PasswordEncoder caller (DaoAuthenticationProvider, services) goes through it unchanged
+ */
+@Slf4j
+public class PasswordHashingEngine implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int bulkQueueLimit;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHashingEngine(
+            PasswordEncoder delegate,
+            int threads,
+            int queueCapacity,
+            Duration retryAfter,
+            MeterRegistry meterRegistry
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.delegate = delegate;
+        this.retryAfterSeconds = Math.max(1L, retryAfter.toSeconds());
+        this.bulkQueueLimit = Math.max(1, queueCapacity) / 2;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.encodeTimer = Timer.builder("password.hashing")
+                .description("Time spent hashing a password, excluding queue wait")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing")
+                .description("Time spent hashing a password, excluding queue wait")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hash requests waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing threads currently busy")
+                .register(meterRegistry);
+        log.info("Password hashing engine started: {} threads, queue capacity {}", poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Bulk hashing (user import): spread over the pool, but never fill more than half of the wait queue
+     * so interactive logins keep their headroom; past that the calling thread hashes itself
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        String[] encoded = new String[rawPasswords.size()];
+        for (int i = 0; i < rawPasswords.size(); i++) {
+            CharSequence rawPassword = rawPasswords.get(i);
+            Future<String> future = null;
+            if (executor.getQueue().size() < bulkQueueLimit) {
+                try {
+                    future = executor.submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+                } catch (RejectedExecutionException ex) {
+                    // queue filled up meanwhile, fall through to the calling thread
+                }
+            }
+            if (future == null) {
+                encoded[i] = encodeTimer.record(() -> delegate.encode(rawPassword));
+            }
+            futures.add(future);
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            if (futures.get(i) != null) {
+                encoded[i] = await(futures.get(i));
+            }
+        }
+        return Arrays.asList(encoded);
+    }
+
+    // cheap (parses the hash prefix only), no need to queue it
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Password hashing saturated ({} queued), rejecting request", executor.getQueue().size());
+            throw new HashingCapacityExceededException(
+                    "Too many authentication requests, please retry later", retryAfterSeconds);
+        }
+        return await(future);
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import com.taskmanagement.userservice.domain.entity.Action;
+import com.taskmanagement.userservice.domain.entity.Resource;
+import com.taskmanagement.userservice.domain.entity.RolePermission;
+
+import java.util.Collection;
+
+/**
+ * PermissionMask: Resource x Action permissions packed into one int
+ * - bit index = resource.permissionOffset + action.permissionBit (3 x 5 = 15 bits)
+ * - Offsets are fixed on the enum constants, not ordinal(): the mask is signed into
+ *   outstanding tokens, reordering or inserting a constant must not move any bit
+ * - MANAGE is expanded to every action of the resource when the mask is built,
+ *   so a check is a single AND
+ * - Carried in the "perms" claim instead of one "RESOURCE:ACTION" string per permission
+ */
+public final class PermissionMask {
+
+    public static final String CLAIM = "perms";
+    public static final int NONE = 0;
+
+    private static final Action[] ACTIONS = Action.values();
+
+    static {
+        int used = NONE;
+        for (Resource resource : Resource.values()) {
+            for (Action action : ACTIONS) {
+                int index = resource.getPermissionOffset() + action.getPermissionBit();
+                if (index < 0 || index >= Integer.SIZE) {
+                    throw new IllegalStateException("Resource x Action no longer fits in an int permission mask");
+                }
+                if ((used & (1 << index)) != 0) {
+                    throw new IllegalStateException("Permission bit " + index + " assigned twice (" + resource + ":" + action + ")");
+                }
+                used |= 1 << index;
+            }
+        }
+    }
+
+    private PermissionMask() {
+    }
+
+    /**
+     * Mask granted by one permission, MANAGE implies every other action on the resource
+     */
+    public static int of(Resource resource, Action action) {
+        if (action != Action.MANAGE) {
+            return bit(resource, action);
+        }
+        int mask = NONE;
+        for (Action implied : ACTIONS) {
+            mask |= bit(resource, implied);
+        }
+        return mask;
+    }
+
+    public static int of(Collection<RolePermission> permissions) {
+        int mask = NONE;
+        for (RolePermission permission : permissions) {
+            if (permission.getResource() != null && permission.getAction() != null) {
+                mask |= of(permission.getResource(), permission.getAction());
+            }
+        }
+        return mask;
+    }
+
+    public static boolean has(int mask, Resource resource, Action action) {
+        return (mask & bit(resource, action)) != 0;
+    }
+
+    /*
+    Legacy "RESOURCE:ACTION" authority strings (tokens issued before the perms claim)
+     */
+    public static boolean isPermissionAuthority(String authority) {
+        return authority != null && authority.indexOf(':') > 0;
+    }
+
+    public static int fromAuthority(String authority) {
+        int separator = authority.indexOf(':');
+        if (separator <= 0) {
+            return NONE;
+        }
+        try {
+            return of(Resource.valueOf(authority.substring(0, separator)),
+                    Action.valueOf(authority.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            return NONE; // unknown resource/action, grants nothing
+        }
+    }
+
+    private static int bit(Resource resource, Action action) {
+        return 1 << (resource.getPermissionOffset() + action.getPermissionBit());
+    }
+}
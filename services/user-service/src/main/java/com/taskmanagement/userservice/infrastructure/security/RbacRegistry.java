@@ -0,0 +1,75 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import com.taskmanagement.userservice.application.utils.UserProfileCache;
+import com.taskmanagement.userservice.domain.projection.RoleGrantRow;
+import com.taskmanagement.userservice.domain.projection.RoleVersionStamp;
+import com.taskmanagement.userservice.domain.repository.RoleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * RbacRegistry: Holds the current RbacSnapshot, read by registration, login and RoleController
+ * - Loaded at startup, then a cheap version-stamp query per poll interval
+ * - Stamp moved -> reload roles + permissions and swap the snapshot in one volatile write
+ * - Readers never touch the DB and never see a half-built snapshot
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RbacRegistry {
+
+    private final RoleRepository roleRepository;
+    private final AuthoritySnapshotCache authoritySnapshotCache;
+    private final UserProfileCache userProfileCache;
+
+    private volatile RbacSnapshot snapshot = RbacSnapshot.EMPTY;
+
+    @PostConstruct
+    void init() {
+        refresh();
+        log.info("RBAC snapshot loaded: {} roles", snapshot.roles().size());
+    }
+
+    public RbacSnapshot current() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${security.rbac.poll-interval:PT30S}",
+            initialDelayString = "${security.rbac.poll-interval:PT30S}")
+    public void poll() {
+        try {
+            if (!roleRepository.findVersionStamp().equals(snapshot.stamp())) {
+                refresh();
+            }
+        } catch (RuntimeException ex) {
+            // keep serving the snapshot we have, retry on the next tick
+            log.error("Failed to poll RBAC version: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Reload unconditionally (role written on this node, unknown role name seen on login)
+     * Stamp is read before the rows, a change in between is picked up by the next poll
+     */
+    public synchronized RbacSnapshot refresh() {
+        RoleVersionStamp stamp = roleRepository.findVersionStamp();
+        if (stamp.equals(snapshot.stamp()) && !snapshot.roles().isEmpty()) {
+            return snapshot;
+        }
+        List<RoleGrantRow> rows = roleRepository.findAllGrants();
+        boolean replacing = !snapshot.roles().isEmpty();
+        snapshot = RbacSnapshot.of(stamp, rows);
+        if (replacing) {
+            // cached per-user authorities and profile role lists were built from the old role definitions
+            authoritySnapshotCache.invalidateAll();
+            userProfileCache.invalidateAll();
+            log.info("RBAC snapshot reloaded: {} roles, version {}", snapshot.roles().size(), stamp);
+        }
+        return snapshot;
+    }
+}
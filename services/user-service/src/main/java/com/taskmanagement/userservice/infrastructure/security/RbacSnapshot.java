@@ -0,0 +1,107 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import com.taskmanagement.userservice.domain.entity.RolePermission;
+import com.taskmanagement.userservice.domain.projection.RoleGrantRow;
+import com.taskmanagement.userservice.domain.projection.RoleVersionStamp;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * RbacSnapshot: Immutable view of every role, its permissions and precomputed authority / mask
+ * - Built from one role x permission query, never mutated afterwards (safe to share across threads)
+ * - RbacRegistry swaps the whole instance when the roles version stamp moves
+ */
+public final class RbacSnapshot {
+
+    public static final RbacSnapshot EMPTY = new RbacSnapshot(new RoleVersionStamp(0L, 0L), Map.of());
+
+    private final RoleVersionStamp stamp;
+    private final Map<String, RoleGrant> rolesByName;
+
+    private RbacSnapshot(RoleVersionStamp stamp, Map<String, RoleGrant> rolesByName) {
+        this.stamp = stamp;
+        this.rolesByName = rolesByName;
+    }
+
+    public static RbacSnapshot of(RoleVersionStamp stamp, List<RoleGrantRow> rows) {
+        Map<String, RoleGrantRow> firstRows = new LinkedHashMap<>();
+        Map<String, Set<RolePermission>> permissions = new LinkedHashMap<>();
+        for (RoleGrantRow row : rows) {
+            firstRows.putIfAbsent(row.roleName(), row);
+            Set<RolePermission> granted = permissions.computeIfAbsent(row.roleName(), name -> new LinkedHashSet<>());
+            if (row.resource() != null && row.action() != null) {
+                granted.add(new RolePermission(row.resource(), row.action()));
+            }
+        }
+
+        Map<String, RoleGrant> roles = new LinkedHashMap<>();
+        firstRows.forEach((name, row) -> {
+            Set<RolePermission> granted = Collections.unmodifiableSet(permissions.get(name));
+            roles.put(name, new RoleGrant(
+                    row.roleId(),
+                    name,
+                    row.description(),
+                    granted,
+                    new SimpleGrantedAuthority("ROLE_" + name),
+                    PermissionMask.of(granted)
+            ));
+        });
+        return new RbacSnapshot(stamp, Collections.unmodifiableMap(roles));
+    }
+
+    public Optional<RoleGrant> role(String name) {
+        return Optional.ofNullable(rolesByName.get(name));
+    }
+
+    public Collection<RoleGrant> roles() {
+        return rolesByName.values();
+    }
+
+    public RoleVersionStamp stamp() {
+        return stamp;
+    }
+
+    /**
+     * Authorities and mask of a set of role names, unknown names grant nothing
+     */
+    public Grants grantsOf(Collection<String> roleNames) {
+        List<GrantedAuthority> authorities = new ArrayList<>(roleNames.size());
+        int mask = PermissionMask.NONE;
+        for (String name : roleNames) {
+            RoleGrant role = rolesByName.get(name);
+            if (role != null) {
+                authorities.add(role.authority());
+                mask |= role.permissionMask();
+            }
+        }
+        return new Grants(authorities, mask);
+    }
+
+    public boolean containsAll(Collection<String> roleNames) {
+        return rolesByName.keySet().containsAll(roleNames);
+    }
+
+    public record RoleGrant(
+            UUID id,
+            String name,
+            String description,
+            Set<RolePermission> permissions,
+            GrantedAuthority authority,
+            int permissionMask
+    ) {
+    }
+
+    public record Grants(List<GrantedAuthority> authorities, int permissionMask) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResponseEqualizer: Answer a request no earlier than a fixed delay after it started
+ * - Hides timing differences between branches (e.g. existing vs unknown email on forgot-password)
+ * - The controller returns the CompletableFuture, Spring MVC releases the Tomcat thread
+ *   and the DB connection is already back in the pool while the response waits
+ * - One scheduler thread only completes futures, no work runs on it
+ */
+@Component
+public class ResponseEqualizer {
+
+    private final long minimumLatencyNanos;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    public ResponseEqualizer(@Value("${security.password-reset.response-delay:PT1S}") Duration minimumLatency) {
+        this.minimumLatencyNanos = minimumLatency.toNanos();
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "response-equalizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Complete with value once minimumLatency has passed since startedAtNanos (System.nanoTime)
+     */
+    public <T> CompletableFuture<T> completeAfterDelay(long startedAtNanos, T value) {
+        long remaining = minimumLatencyNanos - (System.nanoTime() - startedAtNanos);
+        if (remaining <= 0) {
+            return CompletableFuture.completedFuture(value);
+        }
+        CompletableFuture<T> response = new CompletableFuture<>();
+        scheduler.schedule(() -> response.complete(value), remaining, TimeUnit.NANOSECONDS);
+        return response;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import com.taskmanagement.userservice.application.utils.UserProfileCache;
+import com.taskmanagement.userservice.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * RoleAssignmentWatcher: Drops the cached authority snapshot and profile of users whose roles were (un)assigned
+ * - users.roles_changed_at is set by triggers on user_roles, whoever writes the rows
+ * - One indexed range query per poll interval, only the users that changed are invalidated
+ * - Role definition changes are handled by RbacRegistry (invalidateAll), the TTL is only a backstop
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleAssignmentWatcher {
+
+    // commits that land late or a DB clock ahead of ours are still picked up
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final UserRepository userRepository;
+    private final AuthoritySnapshotCache authoritySnapshotCache;
+    private final UserProfileCache userProfileCache;
+
+    // the cache starts empty, nothing assigned before startup can be stale in it
+    private volatile Instant lastPoll = Instant.now();
+
+    @Scheduled(fixedDelayString = "${security.rbac.assignment-poll-interval:PT5S}",
+            initialDelayString = "${security.rbac.assignment-poll-interval:PT5S}")
+    public void poll() {
+        Instant now = Instant.now();
+        try {
+            List<UUID> changed = userRepository.findIdsWithRolesChangedSince(lastPoll.minus(SYNC_OVERLAP));
+            for (UUID userId : changed) {
+                authoritySnapshotCache.invalidate(userId);
+                userProfileCache.invalidate(userId);
+            }
+            lastPoll = now;
+            if (!changed.isEmpty()) {
+                log.debug("Role assignments changed for {} users, authority snapshots and profiles dropped", changed.size());
+            }
+        } catch (RuntimeException ex) {
+            // same window again on the next tick
+            log.error("Failed to poll role assignment changes: {}", ex.getMessage());
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.taskmanagement.userservice.infrastructure.security;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -15,10 +19,14 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * SecurityConfig: Config Spring Security
  * - Disable session (cause using JWT - stateless)
@@ -36,7 +44,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, PasswordEncoder passwordEncoder)
         throws Exception {
         http
             // Disable CSRF
@@ -47,9 +55,13 @@ public class SecurityConfig {
                         "/api/v1/auth/**",
                         "/api/health",
                         "/actuator/health",
-                        "/actuator/info", "/api/v1/users/{userId}/profile"
+                        "/actuator/info", "/api/v1/users/{userId}/profile",
+                        "/.well-known/jwks.json"
                         )
                         .permitAll()
+                        // every meter of the service (scrape target + per-meter drill-down), tagged per user-facing endpoint
+                        .requestMatchers("/actuator/prometheus", "/actuator/metrics", "/actuator/metrics/**")
+                        .hasRole("ADMIN")
                         .anyRequest()
                         .authenticated();
             })
@@ -58,7 +70,7 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             // Set authentication provider
-            .authenticationProvider(authenticationProvider())
+            .authenticationProvider(authenticationProvider(passwordEncoder))
             .addFilterBefore(
                 jwtAuthenticationFilter,
                 UsernamePasswordAuthenticationFilter.class
@@ -70,18 +82,63 @@ public class SecurityConfig {
     Handle authentication logic
      */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(
             userDetailsService
         );
         // Pass UserDetailsService in contructor to avoid deprecated
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // outdated hashes (legacy format / lower strength) are rehashed after a successful login
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
+    /*
+    BCrypt runs on a dedicated bounded pool, not on request threads (429 when saturated)
+    - Strength is calibrated at startup against the per-hash latency budget (or fixed)
+    - New hashes are "{bcrypt}..." ; unprefixed hashes already in password_hash still
+      verify as bcrypt and report upgradeEncoding=true, so they get rehashed on login
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PasswordHashingEngine passwordEncoder(
+        @Value("${security.password.hashing.threads:0}") int threads,
+        @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+        @Value("${security.password.hashing.retry-after:PT1S}") Duration retryAfter,
+        @Value("${security.password.hashing.calibrate:false}") boolean calibrate,
+        @Value("${security.password.hashing.strength:10}") int strength,
+        @Value("${security.password.hashing.target-latency:PT0.25S}") Duration targetLatency,
+        @Value("${security.password.hashing.max-strength:14}") int maxStrength,
+        MeterRegistry meterRegistry
+    ) {
+        int bcryptStrength = calibrate
+            ? BCryptStrengthCalibrator.calibrate(targetLatency, strength, maxStrength)
+            : strength;
+        Gauge.builder("password.hashing.strength", () -> bcryptStrength)
+            .description("BCrypt work factor used for new hashes")
+            .register(meterRegistry);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new PasswordHashingEngine(
+            delegating,
+            threads,
+            queueCapacity,
+            retryAfter,
+            meterRegistry
+        );
+    }
+
+    /*
+    hasPermission('TASK', 'UPDATE') in @PreAuthorize -> bit check on the permission mask
+    static: method security infrastructure is created before this config's own dependencies
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
+        DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+        handler.setPermissionEvaluator(new BitmaskPermissionEvaluator());
+        return handler;
     }
 
     /*
@@ -0,0 +1,191 @@
+package com.taskmanagement.userservice.infrastructure.security;
+
+import com.taskmanagement.userservice.application.utils.TransactionCallbacks;
+import com.taskmanagement.userservice.application.utils.VerifiedToken;
+import com.taskmanagement.userservice.domain.entity.TokenRevocation;
+import com.taskmanagement.userservice.domain.repository.TokenRevocationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TokenRevocationStore: In-memory JWT denylist, checked on every authenticated request
+ * - Per token / per session: Bloom pre-filter + exact id set (jti or sid -> exp)
+ * - Per user: "not before" cutoff, every token issued earlier or in the same second is revoked (password change)
+ * - token_revocations table is the source of truth, other instances pick up new rows
+ *   incrementally (revoked since last sync), no DB access on the request path
+ * - Entries are dropped once the revoked token's exp has passed, memory stays bounded
+ * - Inside a transaction the denylist changes only once the row commits (rolled-back
+ *   password change -> nobody is logged out)
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    // rows committed late or written by a node with a skewed clock are still picked up
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final TokenRevocationRepository revocationRepository;
+    private final long expectedEntries;
+    private final Duration accessTokenLifetime;
+    private final Duration maxTokenLifetime;
+
+    // jti and sid are both random UUIDs, one set serves both
+    private final Map<UUID, Long> revokedIds = new ConcurrentHashMap<>();
+    private final Map<UUID, UserCutoff> userCutoffs = new ConcurrentHashMap<>();
+    private volatile JtiBloomFilter bloomFilter;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenRevocationStore(
+            TokenRevocationRepository revocationRepository,
+            @Value("${jwt.revocation.expected-entries:1000000}") long expectedEntries,
+            @Value("${jwt.expiration}") long accessExpirationMs,
+            @Value("${jwt.refresh-expiration}") long refreshExpirationMs
+    ) {
+        this.revocationRepository = revocationRepository;
+        this.expectedEntries = expectedEntries;
+        this.accessTokenLifetime = Duration.ofMillis(accessExpirationMs);
+        this.maxTokenLifetime = Duration.ofMillis(Math.max(accessExpirationMs, refreshExpirationMs));
+        this.bloomFilter = new JtiBloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+    }
+
+    @PostConstruct
+    void init() {
+        sync();
+        log.info("Token revocation store loaded: {} revoked tokens/sessions, {} user cutoffs",
+                revokedIds.size(), userCutoffs.size());
+    }
+
+    /**
+     * O(1), no DB access: map lookup only when the user has a cutoff or the Bloom filter says "maybe"
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (!userCutoffs.isEmpty() && token.userId() != null) {
+            UserCutoff cutoff = userCutoffs.get(token.userId());
+            if (cutoff != null && (token.issuedAt() == null
+                    || token.issuedAt().getEpochSecond() <= cutoff.notBeforeEpochSecond())) {
+                return true;
+            }
+        }
+        return isDenied(token.jti()) || isDenied(token.sessionId());
+    }
+
+    /**
+     * Revoke one token until its own expiration (logout)
+     */
+    public void revoke(VerifiedToken token) {
+        if (token.jti() == null || token.expiresAt() == null) {
+            return;
+        }
+        TokenRevocation revocation = revocationRepository.save(TokenRevocation.builder()
+                .jti(token.jti())
+                .userId(token.userId())
+                .expiresAt(token.expiresAt())
+                .build());
+        TransactionCallbacks.afterCommit(() -> apply(revocation));
+    }
+
+    /**
+     * Revoke every access token of a login session (logout, refresh-token reuse)
+     * Refresh tokens of the session are revoked in refresh_tokens, access tokens live at most accessTokenLifetime
+     */
+    public void revokeSession(UUID sessionId, UUID userId, Instant revokedAt) {
+        TokenRevocation revocation = revocationRepository.save(TokenRevocation.builder()
+                .sessionId(sessionId)
+                .userId(userId)
+                .expiresAt(revokedAt.plus(accessTokenLifetime))
+                .revokedAt(revokedAt)
+                .build());
+        TransactionCallbacks.afterCommit(() -> apply(revocation));
+    }
+
+    /**
+     * Revoke every token of the user issued before notBefore (password change)
+     * JWT "iat" has second precision: tokens issued in the cutoff's second are revoked too
+     * (a token minted in that second right after the change is rejected, the client logs in again)
+     */
+    public void revokeAllForUser(UUID userId, Instant notBefore) {
+        TokenRevocation revocation = revocationRepository.save(TokenRevocation.builder()
+                .userId(userId)
+                .notBefore(notBefore)
+                .expiresAt(notBefore.plus(maxTokenLifetime))
+                .build());
+        TransactionCallbacks.afterCommit(() -> apply(revocation));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:PT5S}",
+            initialDelayString = "${jwt.revocation.sync-interval:PT5S}")
+    public void sync() {
+        Instant now = Instant.now();
+        Instant since = lastSync.equals(Instant.EPOCH) ? Instant.EPOCH : lastSync.minus(SYNC_OVERLAP);
+        try {
+            List<TokenRevocation> revocations = revocationRepository.findRevokedSince(since, now);
+            revocations.forEach(this::apply);
+            lastSync = now;
+        } catch (RuntimeException ex) {
+            // keep the entries we already have, retry on the next tick
+            log.error("Failed to sync token revocations: {}", ex.getMessage());
+        }
+    }
+
+    /*
+    Drop expired entries and rebuild the Bloom filter without them (Bloom filters can't delete)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:PT10M}",
+            initialDelayString = "${jwt.revocation.purge-interval:PT10M}")
+    public void purgeExpired() {
+        long nowEpochSecond = Instant.now().getEpochSecond();
+        userCutoffs.values().removeIf(cutoff -> cutoff.expiresAtEpochSecond() <= nowEpochSecond);
+        synchronized (this) {
+            revokedIds.values().removeIf(expiresAt -> expiresAt <= nowEpochSecond);
+            JtiBloomFilter rebuilt = new JtiBloomFilter(
+                    Math.max(expectedEntries, revokedIds.size() * 2L), FALSE_POSITIVE_RATE);
+            revokedIds.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        }
+        try {
+            int deleted = revocationRepository.deleteExpired(Instant.now());
+            log.debug("Purged {} expired token revocations", deleted);
+        } catch (RuntimeException ex) {
+            log.error("Failed to delete expired token revocations: {}", ex.getMessage());
+        }
+    }
+
+    private void apply(TokenRevocation revocation) {
+        long expiresAt = revocation.getExpiresAt().getEpochSecond();
+        if (revocation.getNotBefore() != null) {
+            long notBefore = revocation.getNotBefore().getEpochSecond();
+            userCutoffs.merge(revocation.getUserId(), new UserCutoff(notBefore, expiresAt),
+                    (current, added) -> added.notBeforeEpochSecond() > current.notBeforeEpochSecond() ? added : current);
+        }
+        if (revocation.getJti() != null) {
+            deny(revocation.getJti(), expiresAt);
+        }
+        if (revocation.getSessionId() != null) {
+            deny(revocation.getSessionId(), expiresAt);
+        }
+    }
+
+    // guarded with purgeExpired so a rebuild can't miss a concurrent add
+    private synchronized void deny(UUID id, long expiresAtEpochSecond) {
+        revokedIds.put(id, expiresAtEpochSecond);
+        bloomFilter.put(id);
+    }
+
+    private boolean isDenied(UUID id) {
+        return id != null && bloomFilter.mightContain(id) && revokedIds.containsKey(id);
+    }
+
+    private record UserCutoff(long notBeforeEpochSecond, long expiresAtEpochSecond) {
+    }
+}
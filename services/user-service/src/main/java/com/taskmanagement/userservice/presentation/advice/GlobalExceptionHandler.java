@@ -1,6 +1,7 @@
 package com.taskmanagement.userservice.presentation.advice;
 
 import com.taskmanagement.userservice.domain.exception.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -62,13 +63,48 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidImportException.class)
+    public ResponseEntity<?> handleInvalidImportException(InvalidImportException ex){
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(BatchLimitExceededException.class)
+    public ResponseEntity<?> handleBatchLimitExceededException(BatchLimitExceededException ex){
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<?> handleInvalidCursorException(InvalidCursorException ex){
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public ResponseEntity<?> handleHashingCapacityExceededException(HashingCapacityExceededException ex){
+        return buildTooManyRequestsResponse(ex.getMessage(), ex.getRetryAfterSeconds());
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<?> handleRateLimitExceededException(RateLimitExceededException ex){
+        return buildTooManyRequestsResponse(ex.getMessage(), ex.getRetryAfterSeconds());
+    }
+
+    private ResponseEntity<?> buildTooManyRequestsResponse(String message, long retryAfterSeconds){
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorBody(HttpStatus.TOO_MANY_REQUESTS, message));
+    }
+
     private ResponseEntity<?> buildErrorResponse(HttpStatus status, String message){
+        return ResponseEntity.status(status).body(errorBody(status, message));
+    }
+
+    private Map<String, Object> errorBody(HttpStatus status, String message){
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("status", status.value());
         body.put("error", status.getReasonPhrase());
         body.put("message", message);
-        return ResponseEntity.status(status).body(body);
+        return body;
     }
 
 }
@@ -3,13 +3,21 @@ package com.taskmanagement.userservice.presentation.rest.controller;
 import com.taskmanagement.userservice.application.dto.*;
 import com.taskmanagement.userservice.application.service.AuthService;
 import com.taskmanagement.userservice.application.service.ResetPasswordService;
+import com.taskmanagement.userservice.infrastructure.security.AuthRateLimiter;
+import com.taskmanagement.userservice.infrastructure.security.AuthRateLimiter.Endpoint;
+import com.taskmanagement.userservice.infrastructure.security.ResponseEqualizer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("api/v1/auth")
@@ -19,13 +27,18 @@ public class AuthController {
 
     private final AuthService authService;
     private final ResetPasswordService resetPasswordService;
+    private final AuthRateLimiter rateLimiter;
+    private final ResponseEqualizer responseEqualizer;
 
     @PostMapping("/login")
     @Operation(summary = "User Login",
             description = "Authenticate user and return JWT tokens")
     public ResponseEntity<LoginResponse> login(
-            @Valid @RequestBody LoginRequest request
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
     ) {
+        // throttle before any DB / BCrypt work
+        rateLimiter.check(Endpoint.LOGIN, httpRequest.getRemoteAddr(), request.email());
         LoginResponse response = authService.login(request);
         return ResponseEntity.ok(response);
     }
@@ -34,8 +47,10 @@ public class AuthController {
     @Operation(summary = "User Register",
             description = "Create new User")
     public ResponseEntity<RegisterResponse> register(
-            @Valid @RequestBody RegisterRequest request
+            @Valid @RequestBody RegisterRequest request,
+            HttpServletRequest httpRequest
     ) {
+        rateLimiter.check(Endpoint.REGISTER, httpRequest.getRemoteAddr(), request.getEmail());
         RegisterResponse response = authService.register(request);
         return ResponseEntity.ok(response);
     }
@@ -44,26 +59,47 @@ public class AuthController {
     @Operation(summary = "Refresh Token",
             description = "Refresh JWT tokens using a valid refresh token")
     public ResponseEntity<LoginResponse> refreshToken(
-            @Valid @RequestBody RefreshTokenRequest request) {
+            @Valid @RequestBody RefreshTokenRequest request,
+            HttpServletRequest httpRequest) {
+        rateLimiter.check(Endpoint.REFRESH_TOKEN, httpRequest.getRemoteAddr(), null);
         return ResponseEntity.ok(authService.refreshToken(request));
     }
 
+    @PostMapping("/logout")
+    @Operation(summary = "Logout",
+            description = "Revoke the access token sent in the Authorization header")
+    public ResponseEntity<MessageResponse> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization
+    ) {
+        if (StringUtils.hasText(authorization) && authorization.startsWith("Bearer ")) {
+            authService.logout(authorization.substring(7));
+        }
+        return ResponseEntity.ok(new MessageResponse("Logged out successfully"));
+    }
+
     @PostMapping("/password/forgot")
     @Operation(summary = "Forgot Password",
             description = "Send password reset email to user")
-    public ResponseEntity<MessageResponse> forgotPassword(
-            @Valid @RequestBody PasswordResetTokenRequest request
+    public CompletableFuture<ResponseEntity<MessageResponse>> forgotPassword(
+            @Valid @RequestBody PasswordResetTokenRequest request,
+            HttpServletRequest httpRequest
     ) {
+        rateLimiter.check(Endpoint.FORGOT_PASSWORD, httpRequest.getRemoteAddr(), request.email());
+        long startedAt = System.nanoTime();
         resetPasswordService.createPasswordResetToken(request);
-        return ResponseEntity.ok(new MessageResponse("If the email exists, a reset link has been sent") );
+        // existing and unknown emails answer after the same delay, no thread is held while waiting
+        return responseEqualizer.completeAfterDelay(startedAt,
+                ResponseEntity.ok(new MessageResponse("If the email exists, a reset link has been sent")));
     }
 
     @PostMapping("/password/reset/confirm")
     @Operation(summary = "Reset Password",
             description = "Reset user password using reset token")
     public ResponseEntity<MessageResponse> resetPassword(
-            @Valid @RequestBody ResetPasswordRequest request
+            @Valid @RequestBody ResetPasswordRequest request,
+            HttpServletRequest httpRequest
     ) {
+        rateLimiter.check(Endpoint.RESET_PASSWORD, httpRequest.getRemoteAddr(), null);
         resetPasswordService.resetPassword(request);
         return ResponseEntity.ok(new MessageResponse("Password has been reset successfully") );
     }
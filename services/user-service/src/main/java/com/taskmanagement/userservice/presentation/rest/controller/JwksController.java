@@ -0,0 +1,41 @@
+package com.taskmanagement.userservice.presentation.rest.controller;
+
+import com.taskmanagement.userservice.application.utils.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "JWKS",
+        description = "Public keys for verifying tokens issued by user-service")
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+
+    @Value("${jwt.keys.jwks-max-age:PT5M}")
+    private Duration jwksMaxAge;
+
+    /*
+    Other services fetch this once and verify tokens locally by "kid"
+    max-age must stay below jwt.keys.publish-ahead so new keys are cached before they sign
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "JSON Web Key Set",
+            description = "Public signing keys (empty when tokens are signed with a shared HMAC secret)")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwksMaxAge).cachePublic())
+                .body(Map.of("keys", keyRing.publicJwks()));
+    }
+}
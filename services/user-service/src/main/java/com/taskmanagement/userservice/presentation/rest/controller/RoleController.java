@@ -1,21 +1,44 @@
 package com.taskmanagement.userservice.presentation.rest.controller;
 
+import com.taskmanagement.userservice.application.dto.RoleResponse;
+import com.taskmanagement.userservice.application.service.RoleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("api/v1")
+@Tag(name = "Role",
+        description = "Endpoints for role management")
 public class RoleController {
 
+    private final RoleService roleService;
+
+    @GetMapping("/roles")
+    @Operation(summary = "List roles",
+    description = "List every role with its permissions")
+    @PreAuthorize("hasRole('ADMIN')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<List<RoleResponse>> getAllRoles() {
+        return ResponseEntity.ok(roleService.getAllRoles());
+    }
+
     /*
       // Endpoints:
-    - GET /roles (list all roles)
     - POST /roles (create custom role)
     - PUT /roles/{roleId} (update role)
     - POST /roles/{roleId}/permissions (add permissions)
     - DELETE /roles/{roleId}/permissions/{resource}/{action}
+    -> writes bump roles.version, call RbacRegistry.refresh() after commit
 
   // User role assignment:
     - POST /users/{userId}/roles (assign role to user)
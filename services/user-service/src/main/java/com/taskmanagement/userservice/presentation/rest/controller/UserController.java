@@ -1,20 +1,30 @@
 package com.taskmanagement.userservice.presentation.rest.controller;
 
+import com.taskmanagement.userservice.application.dto.BatchProfileRequest;
+import com.taskmanagement.userservice.application.dto.BatchProfileResponse;
+import com.taskmanagement.userservice.application.dto.BulkImportResponse;
 import com.taskmanagement.userservice.application.dto.ChangePasswordRequest;
 import com.taskmanagement.userservice.application.dto.MessageResponse;
 import com.taskmanagement.userservice.application.dto.UpdateProfileRequest;
 import com.taskmanagement.userservice.application.dto.UserProfileResponse;
+import com.taskmanagement.userservice.application.dto.UserSearchResponse;
+import com.taskmanagement.userservice.application.service.UserImportService;
+import com.taskmanagement.userservice.application.service.UserSearchService;
 import com.taskmanagement.userservice.application.service.UserService;
+import com.taskmanagement.userservice.application.utils.UserImportReader;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.UUID;
 
 @RestController
@@ -25,6 +35,24 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final UserSearchService userSearchService;
+
+    @GetMapping
+    @Operation(summary = "Search users",
+    description = "Newest first, optional text search (email, first / last name) and role filter, "
+            + "pass nextCursor of the previous page to get the next one")
+    @PreAuthorize("hasRole('ADMIN')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<UserSearchResponse> searchUsers(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        UserSearchResponse response = userSearchService.searchUsers(search, role, cursor, size);
+        return ResponseEntity.ok(response);
+    }
 
     @GetMapping("/me")
     @Operation(summary = "Get current user profile",
@@ -56,6 +84,16 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/profiles/batch")
+    @Operation(summary = "Get many user profiles",
+    description = "Compact profiles for a list of user IDs in one call, unknown IDs are listed as missing")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<BatchProfileResponse> getProfilesByUserIds(
+            @Valid @RequestBody BatchProfileRequest request){
+        BatchProfileResponse response = userService.getProfilesByUserIds(request.userIds());
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/me/update")
     @Operation(summary = "Update current user profile",
     description = "Update profile for authenticated user")
@@ -81,14 +119,27 @@ public class UserController {
     }
 
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "Bulk import users",
+    description = "Stream CSV (header email,password,firstName,lastName) or NDJSON, failed rows are reported individually")
+    @PreAuthorize("hasRole('ADMIN')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<BulkImportResponse> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        // read straight from the request stream, the body is never buffered as a whole
+        BulkImportResponse response = userImportService.importUsers(
+                request.getInputStream(), UserImportReader.Format.fromContentType(contentType));
+        return ResponseEntity.ok(response);
+    }
+
     /*
     - POST /users/{userId}/profile/avatar (upload photo)
     - DELETE /users/{userId}/profile/avatar
 
     -> User search and pagination
       // Endpoints:
-    - GET /users?search=john&page=0&size=20&sort=createdAt,desc
-    - GET /users?role=ADMIN
-    - GET /users?status=ACTIVE
+    - GET /users?status=ACTIVE (no status column yet)
      */
 }
@@ -0,0 +1,19 @@
+-- User search (GET /api/v1/users): substring match on email / first name / last name + keyset pagination
+
+-- Trigram GIN indexes serve ILIKE '%term%' (the leading wildcard rules out B-trees)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm
+    ON users USING gin (email gin_trgm_ops)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_profiles_first_name_trgm
+    ON profiles USING gin (first_name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_profiles_last_name_trgm
+    ON profiles USING gin (last_name gin_trgm_ops);
+
+-- Seek order of the listing: (created_at, id) DESC, a page is one index range scan whatever its depth
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id
+    ON users (created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,34 @@
+-- Per-user role-assignment change marker, polled by RoleAssignmentWatcher to drop cached authority snapshots
+-- Maintained by statement-level triggers on user_roles, so scripts and other writers are covered too
+-- (one UPDATE per statement, a bulk import doesn't pay a trigger call per row)
+ALTER TABLE users
+    ADD COLUMN roles_changed_at TIMESTAMPTZ;
+
+COMMENT ON COLUMN users.roles_changed_at IS 'Last insert / update / delete of the user''s user_roles rows';
+
+CREATE INDEX IF NOT EXISTS idx_users_roles_changed_at
+    ON users (roles_changed_at)
+    WHERE roles_changed_at IS NOT NULL;
+
+CREATE OR REPLACE FUNCTION touch_users_roles_changed_at() RETURNS trigger AS $$
+BEGIN
+    UPDATE users SET roles_changed_at = now()
+    WHERE id IN (SELECT DISTINCT user_id FROM changed_rows);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_user_roles_inserted
+    AFTER INSERT ON user_roles
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION touch_users_roles_changed_at();
+
+CREATE TRIGGER trg_user_roles_updated
+    AFTER UPDATE ON user_roles
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION touch_users_roles_changed_at();
+
+CREATE TRIGGER trg_user_roles_deleted
+    AFTER DELETE ON user_roles
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION touch_users_roles_changed_at();
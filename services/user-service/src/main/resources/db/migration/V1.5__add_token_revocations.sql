@@ -0,0 +1,19 @@
+-- Revoked JWTs (logout) and user-wide revocations (password change)
+-- Loaded incrementally into memory by TokenRevocationStore, rows are useless once expires_at has passed
+CREATE TABLE token_revocations (
+    id UUID PRIMARY KEY,
+    jti UUID,                   -- single token revocation
+    user_id UUID NOT NULL,
+    not_before TIMESTAMPTZ,     -- user-wide revocation: every token issued before this instant
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ NOT NULL,
+
+    CONSTRAINT chk_token_revocations_target
+        CHECK (jti IS NOT NULL OR not_before IS NOT NULL)
+);
+
+-- incremental sync reads "revoked since", cleanup deletes "expired before"
+CREATE INDEX idx_token_revocations_revoked_at ON token_revocations(revoked_at);
+CREATE INDEX idx_token_revocations_expires_at ON token_revocations(expires_at);
+
+COMMENT ON TABLE token_revocations IS 'JWT denylist, entries expire together with the revoked token';
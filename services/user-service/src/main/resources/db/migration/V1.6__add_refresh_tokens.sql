@@ -0,0 +1,36 @@
+-- Server-tracked refresh tokens grouped in families (one family per login session)
+-- Each token is single-use: refresh marks it used and issues the next one in the same family,
+-- presenting a used token again revokes the whole family (token theft / replay)
+CREATE TABLE refresh_tokens (
+    id UUID PRIMARY KEY,
+    family_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,   -- SHA-256 (base64url) of the JWT, raw token is never stored
+    expires_at TIMESTAMPTZ NOT NULL,
+    used_at TIMESTAMPTZ,
+    revoked_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL,
+
+    CONSTRAINT fk_refresh_tokens_user
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX uq_refresh_tokens_token_hash ON refresh_tokens(token_hash);
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens(user_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
+
+COMMENT ON TABLE refresh_tokens IS 'Refresh token families with single-use rotation and reuse detection';
+
+-- Logout / refresh-token reuse revoke a whole login session (every access token carrying its "sid")
+ALTER TABLE token_revocations
+    ADD COLUMN session_id UUID;
+
+ALTER TABLE token_revocations
+    DROP CONSTRAINT IF EXISTS chk_token_revocations_target;
+
+ALTER TABLE token_revocations
+    ADD CONSTRAINT chk_token_revocations_target
+    CHECK (jti IS NOT NULL OR session_id IS NOT NULL OR not_before IS NOT NULL);
@@ -0,0 +1,22 @@
+-- Transactional email outbox: rows are written in the business transaction,
+-- EmailOutboxRelay claims due rows in batches (FOR UPDATE SKIP LOCKED) and delivers them
+CREATE TABLE email_outbox (
+    id UUID PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT,                          -- cleared once delivered (may contain a reset link)
+    status VARCHAR(20) NOT NULL,        -- PENDING, SENDING, SENT, FAILED
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL, -- due time, or lease expiry while SENDING
+    last_error VARCHAR(1000),
+    created_at TIMESTAMPTZ NOT NULL,
+    sent_at TIMESTAMPTZ
+);
+
+-- relay polls only undelivered rows
+CREATE INDEX idx_email_outbox_due ON email_outbox(next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING');
+CREATE INDEX idx_email_outbox_sent_at ON email_outbox(sent_at)
+    WHERE status = 'SENT';
+
+COMMENT ON TABLE email_outbox IS 'Emails written with the business transaction, delivered asynchronously with retries';
@@ -0,0 +1,54 @@
+-- Password reset tokens v2
+-- - Only the SHA-256 (base64url, no padding) of the token is stored, lookups go through token_hash
+-- - Range-partitioned by expiry_at, one partition per day: expired tokens are removed by
+--   dropping whole partitions (ResetTokenPartitionMaintenance) instead of row-by-row deletes
+-- - A unique constraint would have to include expiry_at, 256-bit random tokens don't need it
+CREATE TABLE password_reset_tokens_v2 (
+    id UUID NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    user_id UUID NOT NULL,
+    expiry_at TIMESTAMPTZ NOT NULL,
+    used BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMPTZ NOT NULL,
+
+    CONSTRAINT pk_password_reset_tokens PRIMARY KEY (id, expiry_at),
+    CONSTRAINT fk_password_reset_tokens_user
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+) PARTITION BY RANGE (expiry_at);
+
+-- catches rows outside the pre-created range, maintenance keeps it empty
+CREATE TABLE password_reset_tokens_default PARTITION OF password_reset_tokens_v2 DEFAULT;
+
+-- yesterday .. +14 days, maintenance keeps creating partitions ahead
+DO $$
+DECLARE
+    day DATE;
+BEGIN
+    FOR day IN SELECT generate_series(CURRENT_DATE - 1, CURRENT_DATE + 14, INTERVAL '1 day')::DATE LOOP
+        EXECUTE format(
+            'CREATE TABLE password_reset_tokens_p%s PARTITION OF password_reset_tokens_v2 FOR VALUES FROM (%L) TO (%L)',
+            to_char(day, 'YYYYMMDD'), day::TIMESTAMPTZ, (day + 1)::TIMESTAMPTZ);
+    END LOOP;
+END $$;
+
+-- carry over tokens that can still be used, hashed the same way as TokenHashing.sha256
+INSERT INTO password_reset_tokens_v2 (id, token_hash, user_id, expiry_at, used, created_at)
+SELECT id,
+       rtrim(translate(encode(sha256(convert_to(token, 'UTF8')), 'base64'), '+/', '-_'), '='),
+       user_id,
+       expiry_at,
+       used,
+       created_at
+FROM password_reset_tokens
+WHERE expiry_at > NOW() AND used = FALSE;
+
+DROP TABLE password_reset_tokens;
+ALTER TABLE password_reset_tokens_v2 RENAME TO password_reset_tokens;
+
+-- partitioned indexes, created on every partition
+CREATE INDEX idx_password_reset_tokens_token_hash ON password_reset_tokens(token_hash);
+CREATE INDEX idx_password_reset_tokens_user_id ON password_reset_tokens(user_id);
+
+COMMENT ON TABLE password_reset_tokens IS 'Hashed password reset tokens, daily partitions by expiry_at';
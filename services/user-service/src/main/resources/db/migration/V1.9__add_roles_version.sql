@@ -0,0 +1,7 @@
+-- Optimistic-lock version of a role, bumped by JPA on every change of the role or its permissions
+-- RbacRegistry polls COUNT(*) + SUM(version) and reloads its in-memory snapshot when it moves
+-- Scripts that change roles / role_permissions directly must bump roles.version themselves
+ALTER TABLE roles
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN roles.version IS 'Bumped on every role / role_permissions change, RBAC snapshot epoch';
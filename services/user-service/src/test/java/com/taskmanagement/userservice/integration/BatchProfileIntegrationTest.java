@@ -0,0 +1,68 @@
+package com.taskmanagement.userservice.integration;
+
+import com.taskmanagement.userservice.application.dto.BatchProfileResponse;
+import com.taskmanagement.userservice.application.dto.ProfileSummaryResponse;
+import com.taskmanagement.userservice.application.service.UserService;
+import com.taskmanagement.userservice.domain.entity.Profile;
+import com.taskmanagement.userservice.domain.entity.User;
+import com.taskmanagement.userservice.domain.repository.ProfileRepository;
+import com.taskmanagement.userservice.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batch profile lookup against H2 (PostgreSQL mode, application-test.properties)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Batch profile integration tests")
+class BatchProfileIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should list a soft-deleted user as missing even though the profile row is still live")
+    void getProfilesByUserIds_SoftDeletedUser_Missing() {
+        UUID active = createUserWithProfile("Active");
+        UUID deleted = createUserWithProfile("Deleted");
+        // soft delete of the user only, like @SQLDelete on User: the profile row keeps deleted_at NULL
+        jdbcTemplate.update("UPDATE users SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?", deleted);
+
+        BatchProfileResponse response = userService.getProfilesByUserIds(List.of(active, deleted));
+
+        assertThat(response.profiles()).extracting(ProfileSummaryResponse::userId).containsExactly(active);
+        assertThat(response.missing()).containsExactly(deleted);
+    }
+
+    private UUID createUserWithProfile(String firstName) {
+        User user = userRepository.save(User.builder()
+                .email("batch-" + UUID.randomUUID() + "@example.com")
+                .password("not-a-real-hash")
+                .build());
+        profileRepository.save(Profile.builder()
+                .userId(user.getId())
+                .firstName(firstName)
+                .lastName("Batch")
+                .build());
+        return user.getId();
+    }
+}
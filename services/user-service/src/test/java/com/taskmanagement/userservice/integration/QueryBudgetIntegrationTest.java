@@ -0,0 +1,122 @@
+package com.taskmanagement.userservice.integration;
+
+import com.taskmanagement.userservice.application.dto.LoginRequest;
+import com.taskmanagement.userservice.application.dto.RegisterRequest;
+import com.taskmanagement.userservice.application.service.AuthService;
+import com.taskmanagement.userservice.application.service.UserService;
+import com.taskmanagement.userservice.infrastructure.persistence.UuidV7;
+import com.taskmanagement.userservice.infrastructure.security.RbacRegistry;
+import com.taskmanagement.userservice.integration.SqlStatementRecorder.Budget;
+import com.taskmanagement.userservice.integration.SqlStatementRecorder.Measurement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query budgets of the hot paths, on H2 (PostgreSQL mode, application-test.properties)
+ * A failing budget prints the statements that were executed, raise it only on purpose
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(SqlStatementRecorder.Config.class)
+@DisplayName("Query budget integration tests")
+class QueryBudgetIntegrationTest {
+
+    private static final String PASSWORD = "Password@123";
+
+    // existsByEmail + INSERT users, profiles, user_roles; the USER role is a reference (no SELECT)
+    private static final Budget REGISTER = new Budget(4, 1, 1, 0);
+    // auth rows (user + role names) in one SELECT + the refresh-token INSERT
+    private static final Budget LOGIN = new Budget(2, 1, 2, 0);
+    // user + profile + role names in one SELECT
+    private static final Budget PROFILE_READ = new Budget(1, 1, 1, 0);
+    // served from UserProfileCache: no statement, no connection (no transaction around a hit)
+    private static final Budget CACHED_PROFILE_READ = new Budget(0, 0, 0, 0);
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RbacRegistry rbacRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlStatementRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        Integer roles = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM roles WHERE name = 'USER'", Integer.class);
+        if (roles == null || roles == 0) {
+            jdbcTemplate.update("INSERT INTO roles (id, name, description, version, created_at, updated_at) " +
+                    "VALUES (?, 'USER', 'Default role', 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", UuidV7.generate());
+        }
+        rbacRegistry.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("register stays within its statement budget")
+    void register_WithinBudget() {
+        RegisterRequest request = registerRequest();
+
+        assertWithin(recorder.measure("AuthService.register", () -> authService.register(request)), REGISTER);
+    }
+
+    @Test
+    @DisplayName("login reads the user in a single query")
+    void login_WithinBudget() {
+        RegisterRequest request = registerRequest();
+        authService.register(request);
+
+        assertWithin(recorder.measure("AuthService.login",
+                () -> authService.login(new LoginRequest(request.getEmail(), PASSWORD))), LOGIN);
+    }
+
+    @Test
+    @DisplayName("profile read is a single query, then served from the cache")
+    void getCurrentUserProfile_WithinBudget() {
+        RegisterRequest request = registerRequest();
+        authService.register(request);
+        authService.login(new LoginRequest(request.getEmail(), PASSWORD)); // sets the SecurityContext
+
+        assertWithin(recorder.measure("UserService.getCurrentUserProfile",
+                () -> userService.getCurrentUserProfile()), PROFILE_READ);
+        assertWithin(recorder.measure("UserService.getCurrentUserProfile (cached)",
+                () -> userService.getCurrentUserProfile()), CACHED_PROFILE_READ);
+    }
+
+    private static void assertWithin(Measurement measurement, Budget budget) {
+        assertThat(measurement.violations(budget))
+                .as("query budget of %s", measurement.path())
+                .isNull();
+    }
+
+    private static RegisterRequest registerRequest() {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail("budget-" + UUID.randomUUID() + "@example.com");
+        request.setPassword(PASSWORD);
+        request.setFirstName("Query");
+        request.setLastName("Budget");
+        return request;
+    }
+}
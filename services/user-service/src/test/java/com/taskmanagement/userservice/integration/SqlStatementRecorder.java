@@ -0,0 +1,190 @@
+package com.taskmanagement.userservice.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * SqlStatementRecorder: Counts what one service call costs on the database
+ * - statements executed (with their SQL), connections acquired, entities loaded (Hibernate statistics)
+ * - only the calling thread is recorded, scheduled jobs running meanwhile are ignored
+ * - Measurement.violations(budget) is null within budget, otherwise a report of the executed statements
+ *   with the ones over budget marked
+ */
+public class SqlStatementRecorder {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final List<String> statements = new ArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private volatile Thread owner;
+
+    // provider: the recorder is looked up while the EntityManagerFactory itself is still being built
+    public SqlStatementRecorder(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public <T> Measurement measure(String path, Supplier<T> call) {
+        Statistics statistics = entityManagerFactory.getObject().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        synchronized (statements) {
+            statements.clear();
+        }
+        connections.set(0);
+        owner = Thread.currentThread();
+        try {
+            call.get();
+        } finally {
+            owner = null;
+        }
+        synchronized (statements) {
+            return new Measurement(path, List.copyOf(statements), connections.get(), statistics.getEntityLoadCount());
+        }
+    }
+
+    private boolean recording() {
+        return owner == Thread.currentThread();
+    }
+
+    private void record(String sql) {
+        if (recording()) {
+            synchronized (statements) {
+                statements.add(sql == null ? "<batch>" : sql.replaceAll("\\s+", " ").trim());
+            }
+        }
+    }
+
+    private Connection connection(Connection connection) {
+        if (recording()) {
+            connections.incrementAndGet();
+        }
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> statement(Statement.class, (Statement) result, null);
+                case "prepareStatement" -> statement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                default -> result;
+            };
+        });
+    }
+
+    private <S extends Statement> S statement(Class<S> type, Statement target, String preparedSql) {
+        return proxy(type, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                record(args != null && args.length > 0 && args[0] instanceof String sql ? sql : preparedSql);
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        InvocationHandler identityAware = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> method.getDeclaringClass() == Object.class ? proxy == args[0] : handler.invoke(proxy, method, args);
+            case "hashCode" -> method.getDeclaringClass() == Object.class ? System.identityHashCode(proxy) : handler.invoke(proxy, method, args);
+            default -> handler.invoke(proxy, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(SqlStatementRecorder.class.getClassLoader(), new Class<?>[]{type}, identityAware));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    public record Budget(int statements, int selects, int connections, long entityLoads) {
+    }
+
+    public record Measurement(String path, List<String> statements, int connections, long entityLoads) {
+
+        public long selects() {
+            return statements.stream()
+                    .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("select"))
+                    .count();
+        }
+
+        /**
+         * null when within budget, otherwise a report listing every statement ("+" = over budget)
+         */
+        public String violations(Budget budget) {
+            boolean exceeded = statements.size() > budget.statements()
+                    || selects() > budget.selects()
+                    || connections > budget.connections()
+                    || entityLoads > budget.entityLoads();
+            if (!exceeded) {
+                return null;
+            }
+            StringBuilder report = new StringBuilder(path).append(" exceeded its query budget\n")
+                    .append(line("statements", statements.size(), budget.statements()))
+                    .append(line("selects", selects(), budget.selects()))
+                    .append(line("connections", connections, budget.connections()))
+                    .append(line("entity loads", entityLoads, budget.entityLoads()))
+                    .append("  executed:\n");
+            for (int i = 0; i < statements.size(); i++) {
+                report.append(i < budget.statements() ? "    " : "  + ")
+                        .append(String.format(Locale.ROOT, "%2d  ", i + 1))
+                        .append(statements.get(i))
+                        .append('\n');
+            }
+            return report.toString();
+        }
+
+        private static String line(String label, long actual, long budget) {
+            return String.format(Locale.ROOT, "  %-13s %d (budget %d)%s%n", label + ":", actual, budget,
+                    actual > budget ? "  <-- over" : "");
+        }
+    }
+
+    /**
+     * Wraps the application DataSource, whatever else decorates it
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class Config {
+
+        @Bean
+        SqlStatementRecorder sqlStatementRecorder(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+            return new SqlStatementRecorder(entityManagerFactory);
+        }
+
+        @Bean
+        static BeanPostProcessor sqlStatementRecorderPostProcessor(ObjectProvider<SqlStatementRecorder> recorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            SqlStatementRecorder active = recorder.getIfAvailable();
+                            Connection connection = super.getConnection();
+                            return active != null ? active.connection(connection) : connection;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
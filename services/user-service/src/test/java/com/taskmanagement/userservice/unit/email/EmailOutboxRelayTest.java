@@ -0,0 +1,100 @@
+package com.taskmanagement.userservice.unit.email;
+
+import com.taskmanagement.userservice.domain.entity.EmailOutboxMessage;
+import com.taskmanagement.userservice.domain.repository.EmailOutboxRepository;
+import com.taskmanagement.userservice.infrastructure.email.EmailMessage;
+import com.taskmanagement.userservice.infrastructure.email.EmailOutboxRelay;
+import com.taskmanagement.userservice.infrastructure.email.EmailTransport;
+import com.taskmanagement.userservice.infrastructure.email.InMemoryEmailTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailOutboxRelay Unit Tests")
+public class EmailOutboxRelayTest {
+
+    @Mock
+    private EmailOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxMessage message;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        message = EmailOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .recipient("test@example.com")
+                .subject("Reset your password")
+                .body("link")
+                .attempts(1)
+                .build();
+        when(outboxRepository.lockDueIds(any(), eq(10))).thenReturn(List.of(message.getId()));
+        when(outboxRepository.findAllById(List.of(message.getId()))).thenReturn(List.of(message));
+    }
+
+    @Test
+    @DisplayName("Should deliver claimed emails and mark them sent")
+    void relay_Delivers_MarksSent() {
+        InMemoryEmailTransport transport = new InMemoryEmailTransport();
+
+        relay(transport, 3).relay();
+
+        assertThat(transport.sentMessages()).containsExactly(new EmailMessage("test@example.com", "Reset your password", "link"));
+        verify(outboxRepository).markSending(eq(List.of(message.getId())), any());
+        verify(outboxRepository).markSent(eq(message.getId()), any());
+        assertThat(meterRegistry.get("email.outbox.delivered").tag("result", "sent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should schedule a retry with backoff when the transport fails")
+    void relay_TransportFails_SchedulesRetry() {
+        Instant before = Instant.now();
+
+        relay(failingTransport(), 3).relay();
+
+        verify(outboxRepository).markRetry(eq(message.getId()), argThat(next -> !next.isBefore(before.plusSeconds(10))),
+                contains("SMTP down"));
+        verify(outboxRepository, never()).markSent(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should give up once max attempts are reached")
+    void relay_MaxAttemptsReached_MarksFailed() {
+        message.setAttempts(3);
+
+        relay(failingTransport(), 3).relay();
+
+        verify(outboxRepository).markFailed(eq(message.getId()), contains("SMTP down"));
+        verify(outboxRepository, never()).markRetry(any(), any(), any());
+    }
+
+    private EmailOutboxRelay relay(EmailTransport transport, int maxAttempts) {
+        return new EmailOutboxRelay(outboxRepository, transport, transactionManager, meterRegistry,
+                10, maxAttempts, Duration.ofSeconds(10), Duration.ofMinutes(30), Duration.ofMinutes(2), Duration.ofDays(7));
+    }
+
+    private static EmailTransport failingTransport() {
+        return message -> {
+            throw new IllegalStateException("SMTP down");
+        };
+    }
+}
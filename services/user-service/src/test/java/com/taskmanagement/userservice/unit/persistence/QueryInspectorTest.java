@@ -0,0 +1,95 @@
+package com.taskmanagement.userservice.unit.persistence;
+
+import com.taskmanagement.userservice.infrastructure.persistence.InstrumentedDataSource;
+import com.taskmanagement.userservice.infrastructure.persistence.QueryInspector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryInspector Unit Tests")
+public class QueryInspectorTest {
+
+    private static final String SELECT_BY_ID = "SELECT name FROM items WHERE id = ?";
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryInspector inspector;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DriverManagerDataSource h2 = new DriverManagerDataSource(
+                "jdbc:h2:mem:inspect-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        inspector = new QueryInspector(meterRegistry, Duration.ofSeconds(10), 1.0, 3);
+        jdbc = new JdbcTemplate(new InstrumentedDataSource(h2, inspector));
+        jdbc.execute("CREATE TABLE items (id INT PRIMARY KEY, name VARCHAR(20))");
+        for (int i = 1; i <= 4; i++) {
+            jdbc.update("INSERT INTO items VALUES (?, ?)", i, "item-" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should time statements and count rows per source")
+    void statements_TimedAndRowsCounted() {
+        QueryInspector.withRepositoryMethod("JpaItemRepository.findAll",
+                () -> jdbc.queryForList("SELECT name FROM items", String.class));
+
+        assertThat(meterRegistry.get("db.query").tags("source", "JpaItemRepository.findAll", "statement", "select")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.query.rows").tags("source", "JpaItemRepository.findAll")
+                .summary().totalAmount()).isEqualTo(4);
+        assertThat(meterRegistry.get("db.query").tags("source", "none", "statement", "insert")
+                .timer().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should classify statements by leading keyword whatever the case or indentation")
+    void statementType_CaseAndWhitespaceInsensitive() {
+        jdbc.queryForList("\n   select name FROM items", String.class);
+        jdbc.queryForList("Select name FROM items", String.class);
+        jdbc.execute("CREATE INDEX idx_items_name ON items (name)");
+
+        assertThat(meterRegistry.get("db.query").tags("source", "none", "statement", "select")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("db.query").tags("source", "none", "statement", "other")
+                .timer().count()).isEqualTo(2); // CREATE TABLE in setUp + CREATE INDEX
+    }
+
+    @Test
+    @DisplayName("Should flag a statement repeated within one request as N+1")
+    void sameStatementRepeated_FlaggedAsNPlusOne() {
+        inspector.beginRequest();
+        for (int id = 1; id <= 3; id++) {
+            int itemId = id;
+            QueryInspector.withRepositoryMethod("JpaItemRepository.findNameById",
+                    () -> jdbc.queryForObject(SELECT_BY_ID, String.class, itemId));
+        }
+        jdbc.queryForList("SELECT name FROM items", String.class);
+        inspector.endRequest("GET /items");
+
+        assertThat(meterRegistry.get("db.query.n_plus_one").tags("source", "JpaItemRepository.findNameById")
+                .counter().count()).isEqualTo(1);
+        // meters are registered per (source, statement type) up front, "none" exists but was never flagged
+        assertThat(meterRegistry.get("db.query.n_plus_one").tags("source", "none").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count statements over the slow-query threshold")
+    void slowStatement_Counted() {
+        QueryInspector slowInspector = new QueryInspector(meterRegistry, Duration.ZERO, 1.0, 3);
+        JdbcTemplate slowJdbc = new JdbcTemplate(new InstrumentedDataSource(jdbc.getDataSource(), slowInspector));
+
+        slowJdbc.queryForObject("SELECT COUNT(*) FROM items", Integer.class);
+
+        assertThat(meterRegistry.get("db.query.slow").tags("source", "none", "statement", "select")
+                .counter().count()).isGreaterThanOrEqualTo(1);
+    }
+}
@@ -0,0 +1,203 @@
+package com.taskmanagement.userservice.unit.persistence;
+
+import com.taskmanagement.userservice.infrastructure.persistence.ReadYourWritesTracker;
+import com.taskmanagement.userservice.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two H2 databases stand in for primary and replica, each answers with its own name
+ */
+@DisplayName("ReplicaRoutingDataSource Unit Tests")
+public class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private ReadYourWritesTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and the rest to primary")
+    void readOnlyTransaction_RoutedToReplica() {
+        Routing routing = routing(database("replica"));
+
+        assertThat(routing.readOnly(this::node)).isEqualTo("replica");
+        assertThat(routing.readWrite(this::node)).isEqualTo("primary");
+        assertThat(node(routing.jdbc)).isEqualTo("primary"); // no transaction
+    }
+
+    @Test
+    @DisplayName("Should fall back to primary when the replica refuses connections")
+    void replicaDown_FallsBackToPrimary() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLException("Connection refused"));
+        Routing routing = routing(broken);
+
+        assertThat(routing.readOnly(this::node)).isEqualTo("primary");
+        assertThat(routing.replica.isHealthy()).isFalse();
+
+        routing.dataSource.checkReplicas();
+        assertThat(routing.replica.isHealthy()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fall back to primary but keep the replica up when its pool is exhausted")
+    void replicaPoolExhausted_NotMarkedDown() throws SQLException {
+        DataSource busy = mock(DataSource.class);
+        when(busy.getConnection()).thenThrow(new SQLTransientConnectionException(
+                "replica-1 - Connection is not available, request timed out after 500ms."));
+        Routing routing = routing(busy);
+
+        assertThat(routing.readOnly(this::node)).isEqualTo("primary");
+        assertThat(routing.replica.isHealthy()).isTrue();
+
+        routing.dataSource.checkReplicas();
+        assertThat(routing.replica.isHealthy()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should bring a replica back once the health check passes")
+    void healthCheck_RestoresReplica() {
+        DataSource flaky = new FlakyDataSource(database("replica"));
+        Routing routing = routing(flaky);
+
+        assertThat(routing.readOnly(this::node)).isEqualTo("primary");
+        routing.dataSource.checkReplicas();
+
+        assertThat(routing.replica.isHealthy()).isTrue();
+        assertThat(routing.readOnly(this::node)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should keep a user on primary right after that user wrote")
+    void readYourWrites_WriterStaysOnPrimary() {
+        Routing routing = routing(database("replica"));
+        authenticate(UUID.randomUUID());
+
+        routing.readWrite(jdbc -> jdbc.update("UPDATE node SET name = name"));
+        assertThat(routing.readOnly(this::node)).isEqualTo("primary");
+
+        authenticate(UUID.randomUUID()); // someone else still reads from the replica
+        assertThat(routing.readOnly(this::node)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should route to primary inside forcePrimary and for recently written keys")
+    void forcePrimary_PinsConnections() {
+        Routing routing = routing(database("replica"));
+
+        assertThat(tracker.forcePrimary(() -> routing.readOnly(this::node))).isEqualTo("primary");
+        assertThat(routing.readOnly(this::node)).isEqualTo("replica");
+
+        tracker.markWrite(ReadYourWritesTracker.emailKey("new@example.com"));
+        assertThat(tracker.wroteRecently(ReadYourWritesTracker.emailKey("new@example.com"))).isTrue();
+        assertThat(tracker.wroteRecently(ReadYourWritesTracker.emailKey("other@example.com"))).isFalse();
+    }
+
+    private String node(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private Routing routing(DataSource replicaDataSource) {
+        ReplicaRoutingDataSource.Replica replica = new ReplicaRoutingDataSource.Replica("replica-1", replicaDataSource);
+        // lag check is PostgreSQL only
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica), tracker,
+                Duration.ZERO, new SimpleMeterRegistry());
+        return new Routing(routing, replica, new LazyConnectionDataSourceProxy(routing));
+    }
+
+    private static void authenticate(UUID userId) {
+        CustomUserDetails user = CustomUserDetails.fromJwtClaims(userId, "user@example.com", List.of("ROLE_USER"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static final class Routing {
+        private final ReplicaRoutingDataSource dataSource;
+        private final ReplicaRoutingDataSource.Replica replica;
+        private final JdbcTemplate jdbc;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routing(ReplicaRoutingDataSource dataSource, ReplicaRoutingDataSource.Replica replica, DataSource proxy) {
+            this.dataSource = dataSource;
+            this.replica = replica;
+            this.jdbc = new JdbcTemplate(proxy);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(proxy);
+            this.readWrite = new TransactionTemplate(transactionManager);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+        }
+
+        <T> T readOnly(Function<JdbcTemplate, T> work) {
+            return readOnly.execute(status -> work.apply(jdbc));
+        }
+
+        <T> T readWrite(Function<JdbcTemplate, T> work) {
+            return readWrite.execute(status -> work.apply(jdbc));
+        }
+    }
+
+    /*
+    Refuses the first connection only (replica restarting)
+     */
+    private static final class FlakyDataSource extends DelegatingDataSource {
+        private boolean failed;
+
+        private FlakyDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (!failed) {
+                failed = true;
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
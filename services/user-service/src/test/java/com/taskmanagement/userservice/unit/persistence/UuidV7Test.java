@@ -0,0 +1,41 @@
+package com.taskmanagement.userservice.unit.persistence;
+
+import com.taskmanagement.userservice.infrastructure.persistence.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UuidV7 Unit Tests")
+public class UuidV7Test {
+
+    @Test
+    @DisplayName("Should produce RFC 9562 version 7 ids carrying the creation time")
+    void generate_VersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampMillis(id)).isBetween(before, after + 1);
+    }
+
+    @Test
+    @DisplayName("Should be strictly increasing, also within one millisecond")
+    void generate_Monotonic() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7.generate());
+        }
+
+        // PostgreSQL compares uuid bytes unsigned, same order as the string form
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i).toString()).isGreaterThan(ids.get(i - 1).toString());
+        }
+    }
+}
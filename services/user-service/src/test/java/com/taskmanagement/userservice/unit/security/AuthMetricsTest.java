@@ -0,0 +1,124 @@
+package com.taskmanagement.userservice.unit.security;
+
+import com.taskmanagement.userservice.application.utils.JwtUtil;
+import com.taskmanagement.userservice.application.utils.VerifiedToken;
+import com.taskmanagement.userservice.infrastructure.security.AuthMetrics;
+import com.taskmanagement.userservice.infrastructure.security.JwtAuthenticationFilter;
+import com.taskmanagement.userservice.infrastructure.security.TokenRevocationStore;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthMetrics Unit Tests")
+public class AuthMetricsTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthMetrics authMetrics;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authMetrics = new AuthMetrics(meterRegistry);
+        filter = new JwtAuthenticationFilter(jwtUtil, tokenRevocationStore, authMetrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should register every outcome up front so series exist before the first request")
+    void constructor_RegistersAllMeters() {
+        assertThat(meterRegistry.get("auth.token.verification").timers()).hasSize(AuthMetrics.TokenOutcome.values().length);
+        assertThat(meterRegistry.get("auth.login").counters()).hasSize(AuthMetrics.LoginFailure.values().length + 1);
+        assertThat(meterRegistry.get("auth.password_reset.tokens.purged").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should time a valid token under outcome=valid and authenticate the request")
+    void filter_ValidToken_RecordedAsValid() throws Exception {
+        VerifiedToken token = token();
+        when(jwtUtil.verify("valid")).thenReturn(Optional.of(token));
+
+        filter.doFilter(request("valid"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(timerCount("valid")).isEqualTo(1);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should record invalid and revoked tokens under their own outcome, count absent ones apart")
+    void filter_RejectedTokens_RecordedByOutcome() throws Exception {
+        VerifiedToken revoked = token();
+        when(jwtUtil.verify("garbage")).thenReturn(Optional.empty());
+        when(jwtUtil.verify("revoked")).thenReturn(Optional.of(revoked));
+        when(tokenRevocationStore.isRevoked(revoked)).thenReturn(true);
+
+        filter.doFilter(request("garbage"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("revoked"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users/me"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(timerCount("invalid")).isEqualTo(1);
+        assertThat(timerCount("revoked")).isEqualTo(1);
+        assertThat(timerCount("valid")).isZero();
+        assertThat(meterRegistry.get("auth.token.verification").timers().stream().mapToLong(Timer::count).sum())
+                .isEqualTo(2); // no sample for the request without a token
+        assertThat(meterRegistry.get("auth.token.absent").counter().count()).isEqualTo(1);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count login failures by reason")
+    void loginFailed_CountedByReason() {
+        authMetrics.loginSucceeded();
+        authMetrics.loginFailed(AuthMetrics.LoginFailure.BAD_CREDENTIALS);
+        authMetrics.loginFailed(AuthMetrics.LoginFailure.BAD_CREDENTIALS);
+
+        assertThat(meterRegistry.get("auth.login").tag("outcome", "success").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.login").tag("reason", "bad_credentials").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.login").tag("reason", "account_locked").counter().count()).isZero();
+    }
+
+    private long timerCount(String outcome) {
+        return meterRegistry.get("auth.token.verification").tag("outcome", outcome).timer().count();
+    }
+
+    private MockHttpServletRequest request(String jwt) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.addHeader("Authorization", "Bearer " + jwt);
+        return request;
+    }
+
+    private VerifiedToken token() {
+        Instant issuedAt = Instant.now().minusSeconds(10);
+        return new VerifiedToken(UUID.randomUUID(), "test@example.com", UUID.randomUUID(), "test@example.com",
+                List.of("ROLE_USER"), VerifiedToken.ACCESS, issuedAt, issuedAt.plusSeconds(900), null, 0);
+    }
+}
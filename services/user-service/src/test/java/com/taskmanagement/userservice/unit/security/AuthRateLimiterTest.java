@@ -0,0 +1,60 @@
+package com.taskmanagement.userservice.unit.security;
+
+import com.taskmanagement.userservice.domain.exception.RateLimitExceededException;
+import com.taskmanagement.userservice.infrastructure.security.AuthRateLimiter;
+import com.taskmanagement.userservice.infrastructure.security.AuthRateLimiter.Endpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AuthRateLimiter Unit Tests")
+public class AuthRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("security.rate-limit.login.period", "PT1H")
+                .withProperty("security.rate-limit.login.ip-limit", "5")
+                .withProperty("security.rate-limit.login.email-limit", "2");
+        // String -> Duration, as SpringApplication configures the real environment
+        environment.setConversionService(new ApplicationConversionService());
+        rateLimiter = new AuthRateLimiter(environment, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should reject once the email bucket is empty, with a retry-after")
+    void check_EmailBucketEmpty_Rejected() {
+        rateLimiter.check(Endpoint.LOGIN, "10.0.0.1", "test@example.com");
+        rateLimiter.check(Endpoint.LOGIN, "10.0.0.2", "TEST@example.com");
+
+        assertThatThrownBy(() -> rateLimiter.check(Endpoint.LOGIN, "10.0.0.3", "test@example.com"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(ex -> assertThat(((RateLimitExceededException) ex).getRetryAfterSeconds()).isPositive());
+        assertThat(meterRegistry.get("auth.rate_limit.rejected").tag("endpoint", "login").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject once the IP bucket is empty, whatever the email")
+    void check_IpBucketEmpty_Rejected() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.check(Endpoint.LOGIN, "10.0.0.1", "user" + i + "@example.com");
+        }
+
+        assertThatThrownBy(() -> rateLimiter.check(Endpoint.LOGIN, "10.0.0.1", "other@example.com"))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThatCode(() -> rateLimiter.check(Endpoint.LOGIN, "10.0.0.2", "other@example.com"))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskmanagement.userservice.unit.security;
+
+import com.taskmanagement.userservice.infrastructure.security.BCryptStrengthCalibrator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BCryptStrengthCalibrator Unit Tests")
+public class BCryptStrengthCalibratorTest {
+
+    @Test
+    @DisplayName("Should pick the strongest setting within a generous budget")
+    void calibrate_GenerousBudget_ReturnsMaxStrength() {
+        assertThat(BCryptStrengthCalibrator.calibrate(Duration.ofSeconds(10), 4, 5)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should never go below the minimum strength")
+    void calibrate_ImpossibleBudget_ReturnsMinStrength() {
+        assertThat(BCryptStrengthCalibrator.calibrate(Duration.ofNanos(1), 4, 6)).isEqualTo(4);
+    }
+}
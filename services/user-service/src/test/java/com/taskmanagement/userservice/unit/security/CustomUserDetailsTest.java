@@ -0,0 +1,58 @@
+package com.taskmanagement.userservice.unit.security;
+
+import com.taskmanagement.userservice.domain.entity.Action;
+import com.taskmanagement.userservice.domain.entity.Resource;
+import com.taskmanagement.userservice.domain.projection.RoleGrantRow;
+import com.taskmanagement.userservice.domain.projection.RoleVersionStamp;
+import com.taskmanagement.userservice.domain.projection.UserAuthRow;
+import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import com.taskmanagement.userservice.infrastructure.security.PermissionMask;
+import com.taskmanagement.userservice.infrastructure.security.RbacSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CustomUserDetails Unit Tests")
+public class CustomUserDetailsTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final RbacSnapshot rbac = RbacSnapshot.of(new RoleVersionStamp(2L, 0L), List.of(
+            new RoleGrantRow(UUID.randomUUID(), "USER", "User", Resource.TASK, Action.READ),
+            new RoleGrantRow(UUID.randomUUID(), "USER", "User", Resource.TASK, Action.UPDATE),
+            new RoleGrantRow(UUID.randomUUID(), "ADMIN", "Admin", null, null)
+    ));
+
+    @Test
+    @DisplayName("Should resolve role authorities and permissions from the RBAC snapshot")
+    void fromAuthRows_ResolvesRolesFromSnapshot() {
+        List<UserAuthRow> rows = List.of(
+                new UserAuthRow(userId, "test@example.com", "hash", "USER"),
+                new UserAuthRow(userId, "test@example.com", "hash", "ADMIN")
+        );
+
+        CustomUserDetails details = CustomUserDetails.fromAuthRows(rows, rbac);
+
+        assertThat(details.getId()).isEqualTo(userId);
+        assertThat(details.getPassword()).isEqualTo("hash");
+        assertThat(details.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(PermissionMask.has(details.getPermissions(), Resource.TASK, Action.READ)).isTrue();
+        assertThat(PermissionMask.has(details.getPermissions(), Resource.TASK, Action.UPDATE)).isTrue();
+        assertThat(PermissionMask.has(details.getPermissions(), Resource.TASK, Action.DELETE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should build a principal without authorities for a user with no roles")
+    void fromAuthRows_UserWithoutRoles() {
+        CustomUserDetails details = CustomUserDetails.fromAuthRows(
+                List.of(new UserAuthRow(userId, "test@example.com", "hash", null)), rbac);
+
+        assertThat(details.getAuthorities()).isEmpty();
+        assertThat(details.getPermissions()).isEqualTo(PermissionMask.NONE);
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskmanagement.userservice.unit.security;
+
+import com.taskmanagement.userservice.domain.exception.HashingCapacityExceededException;
+import com.taskmanagement.userservice.infrastructure.security.PasswordHashingEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHashingEngine Unit Tests")
+public class PasswordHashingEngineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should delegate encode and matches and record their latency")
+    void encodeAndMatches_DelegateAndRecordTimers() {
+        engine = new PasswordHashingEngine(new ReversingEncoder(null), 1, 1, Duration.ofSeconds(1), meterRegistry);
+
+        String encoded = engine.encode("secret");
+
+        assertThat(encoded).isEqualTo("terces");
+        assertThat(engine.matches("secret", encoded)).isTrue();
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail fast with retry-after once the queue is full")
+    void encode_WhenSaturated_ThrowsCapacityExceeded() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        engine = new PasswordHashingEngine(new ReversingEncoder(release, started), 1, 1, Duration.ofSeconds(2), meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> engine.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> engine.encode("second"));
+        waitForQueueDepth(1);
+
+        assertThatThrownBy(() -> engine.encode("third"))
+                .isInstanceOf(HashingCapacityExceededException.class)
+                .satisfies(ex -> assertThat(((HashingCapacityExceededException) ex).getRetryAfterSeconds()).isEqualTo(2));
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("tsrif");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("dnoces");
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < depth) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Queue never reached depth " + depth);
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    // cheap stand-in for BCrypt, optionally blocks until released
+    private static final class ReversingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch release;
+        private final CountDownLatch started;
+
+        ReversingEncoder(CountDownLatch release) {
+            this(release, new CountDownLatch(0));
+        }
+
+        ReversingEncoder(CountDownLatch release, CountDownLatch started) {
+            this.release = release;
+            this.started = started;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new StringBuilder(rawPassword).reverse().toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return new StringBuilder(rawPassword).reverse().toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskmanagement.userservice.unit.security;
+
+import com.taskmanagement.userservice.domain.entity.Action;
+import com.taskmanagement.userservice.domain.entity.Resource;
+import com.taskmanagement.userservice.domain.entity.RolePermission;
+import com.taskmanagement.userservice.infrastructure.security.BitmaskPermissionEvaluator;
+import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import com.taskmanagement.userservice.infrastructure.security.PermissionMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PermissionMask Unit Tests")
+public class PermissionMaskTest {
+
+    private final BitmaskPermissionEvaluator evaluator = new BitmaskPermissionEvaluator();
+
+    @Test
+    @DisplayName("Should grant every action on a resource with MANAGE")
+    void of_Manage_ImpliesAllActions() {
+        int mask = PermissionMask.of(List.of(new RolePermission(Resource.FEATURE, Action.MANAGE)));
+
+        for (Action action : Action.values()) {
+            assertThat(PermissionMask.has(mask, Resource.FEATURE, action)).isTrue();
+        }
+        assertThat(PermissionMask.has(mask, Resource.TASK, Action.READ)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep the bit layout of masks already signed into tokens")
+    void of_KnownGrants_PinnedBits() {
+        assertThat(PermissionMask.of(Resource.TASK, Action.CREATE)).isEqualTo(0b1);
+        assertThat(PermissionMask.of(Resource.TASK, Action.UPDATE)).isEqualTo(0b100);
+        assertThat(PermissionMask.of(Resource.FEATURE, Action.READ)).isEqualTo(0b1000000);
+        assertThat(PermissionMask.of(Resource.OBJECTIVE, Action.DELETE)).isEqualTo(1 << 13);
+        assertThat(PermissionMask.of(Resource.OBJECTIVE, Action.MANAGE)).isEqualTo(0b111110000000000);
+        assertThat(PermissionMask.of(List.of(
+                new RolePermission(Resource.TASK, Action.READ),
+                new RolePermission(Resource.FEATURE, Action.MANAGE)))).isEqualTo(0b1111100010);
+    }
+
+    @Test
+    @DisplayName("Should fold legacy RESOURCE:ACTION strings into the mask")
+    void fromJwtClaims_LegacyStrings_FoldedIntoMask() {
+        CustomUserDetails userDetails = CustomUserDetails.fromJwtClaims(UUID.randomUUID(), "test@example.com",
+                List.of("ROLE_USER", "TASK:READ", "UNKNOWN:READ"));
+
+        assertThat(userDetails.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+        assertThat(userDetails.getPermissions()).isEqualTo(PermissionMask.of(Resource.TASK, Action.READ));
+    }
+
+    @Test
+    @DisplayName("Should evaluate hasPermission against the principal's bits")
+    void evaluator_ChecksBits() {
+        CustomUserDetails userDetails = CustomUserDetails.fromJwtClaims(UUID.randomUUID(), "test@example.com",
+                List.of("ROLE_USER"), PermissionMask.of(Resource.TASK, Action.UPDATE));
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+
+        assertThat(evaluator.hasPermission(authentication, "TASK", "UPDATE")).isTrue();
+        assertThat(evaluator.hasPermission(authentication, "TASK", "DELETE")).isFalse();
+        assertThat(evaluator.hasPermission(authentication, "NOT_A_RESOURCE", "UPDATE")).isFalse();
+    }
+}
@@ -0,0 +1,79 @@
+package com.taskmanagement.userservice.unit.security;
+
+import com.taskmanagement.userservice.application.utils.UserProfileCache;
+import com.taskmanagement.userservice.domain.entity.Action;
+import com.taskmanagement.userservice.domain.entity.Resource;
+import com.taskmanagement.userservice.domain.projection.RoleGrantRow;
+import com.taskmanagement.userservice.domain.projection.RoleVersionStamp;
+import com.taskmanagement.userservice.domain.repository.RoleRepository;
+import com.taskmanagement.userservice.infrastructure.security.AuthoritySnapshotCache;
+import com.taskmanagement.userservice.infrastructure.security.PermissionMask;
+import com.taskmanagement.userservice.infrastructure.security.RbacRegistry;
+import com.taskmanagement.userservice.infrastructure.security.RbacSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RbacRegistry Unit Tests")
+public class RbacRegistryTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private AuthoritySnapshotCache authoritySnapshotCache;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    private RbacRegistry registry;
+    private UUID userRoleId;
+
+    @BeforeEach
+    void setUp() {
+        userRoleId = UUID.randomUUID();
+        registry = new RbacRegistry(roleRepository, authoritySnapshotCache, userProfileCache);
+        when(roleRepository.findVersionStamp()).thenReturn(new RoleVersionStamp(1L, 0L));
+        when(roleRepository.findAllGrants()).thenReturn(List.of(
+                new RoleGrantRow(userRoleId, "USER", "User", Resource.TASK, Action.READ)));
+        registry.refresh();
+    }
+
+    @Test
+    @DisplayName("Should keep the snapshot while the roles version is unchanged")
+    void poll_UnchangedVersion_NoReload() {
+        RbacSnapshot before = registry.current();
+
+        registry.poll();
+
+        assertThat(registry.current()).isSameAs(before);
+        verify(roleRepository, times(1)).findAllGrants();
+        verifyNoInteractions(authoritySnapshotCache, userProfileCache);
+    }
+
+    @Test
+    @DisplayName("Should swap the snapshot and drop cached authorities and profiles when the roles version moves")
+    void poll_VersionMoved_SwapsSnapshot() {
+        when(roleRepository.findVersionStamp()).thenReturn(new RoleVersionStamp(1L, 1L));
+        when(roleRepository.findAllGrants()).thenReturn(List.of(
+                new RoleGrantRow(userRoleId, "USER", "User", Resource.TASK, Action.MANAGE)));
+
+        registry.poll();
+
+        RbacSnapshot.RoleGrant user = registry.current().role("USER").orElseThrow();
+        assertThat(user.id()).isEqualTo(userRoleId);
+        assertThat(PermissionMask.has(user.permissionMask(), Resource.TASK, Action.DELETE)).isTrue();
+        verify(authoritySnapshotCache).invalidateAll();
+        verify(userProfileCache).invalidateAll();
+    }
+}
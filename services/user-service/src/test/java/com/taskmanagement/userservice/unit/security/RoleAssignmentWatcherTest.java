@@ -0,0 +1,75 @@
+package com.taskmanagement.userservice.unit.security;
+
+import com.taskmanagement.userservice.application.utils.UserProfileCache;
+import com.taskmanagement.userservice.domain.repository.UserRepository;
+import com.taskmanagement.userservice.infrastructure.security.AuthoritySnapshotCache;
+import com.taskmanagement.userservice.infrastructure.security.RoleAssignmentWatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoleAssignmentWatcher Unit Tests")
+public class RoleAssignmentWatcherTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AuthoritySnapshotCache authoritySnapshotCache;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    private RoleAssignmentWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        watcher = new RoleAssignmentWatcher(userRepository, authoritySnapshotCache, userProfileCache);
+    }
+
+    @Test
+    @DisplayName("Should drop the snapshot and cached profile of each user whose roles changed, and only those")
+    void poll_ChangedUsers_Invalidated() {
+        UUID promoted = UUID.randomUUID();
+        UUID demoted = UUID.randomUUID();
+        when(userRepository.findIdsWithRolesChangedSince(any())).thenReturn(List.of(promoted, demoted));
+
+        watcher.poll();
+
+        verify(authoritySnapshotCache).invalidate(promoted);
+        verify(authoritySnapshotCache).invalidate(demoted);
+        verify(authoritySnapshotCache, never()).invalidateAll();
+        verify(userProfileCache).invalidate(promoted);
+        verify(userProfileCache).invalidate(demoted);
+        verify(userProfileCache, never()).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should poll the same window again after a failed query")
+    void poll_QueryFails_WindowKept() {
+        when(userRepository.findIdsWithRolesChangedSince(any()))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(List.of());
+
+        watcher.poll();
+        watcher.poll();
+
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        verify(userRepository, times(2)).findIdsWithRolesChangedSince(since.capture());
+        assertThat(since.getAllValues().get(1)).isEqualTo(since.getAllValues().get(0));
+        verifyNoInteractions(authoritySnapshotCache, userProfileCache);
+    }
+}
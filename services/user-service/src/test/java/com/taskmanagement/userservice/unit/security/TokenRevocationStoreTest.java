@@ -0,0 +1,128 @@
+package com.taskmanagement.userservice.unit.security;
+
+import com.taskmanagement.userservice.application.utils.VerifiedToken;
+import com.taskmanagement.userservice.domain.entity.TokenRevocation;
+import com.taskmanagement.userservice.domain.repository.TokenRevocationRepository;
+import com.taskmanagement.userservice.infrastructure.security.TokenRevocationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationStore Unit Tests")
+public class TokenRevocationStoreTest {
+
+    @Mock
+    private TokenRevocationRepository revocationRepository;
+
+    private TokenRevocationStore store;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        lenient().when(revocationRepository.save(any(TokenRevocation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        store = new TokenRevocationStore(revocationRepository, 1_000, 900_000L, 604_800_000L);
+    }
+
+    @Test
+    @DisplayName("Should reject a token after logout but keep other tokens valid")
+    void revoke_SingleToken_OnlyThatTokenRevoked() {
+        VerifiedToken loggedOut = token(Instant.now().minusSeconds(10));
+        VerifiedToken other = token(Instant.now().minusSeconds(10));
+
+        store.revoke(loggedOut);
+
+        assertThat(store.isRevoked(loggedOut)).isTrue();
+        assertThat(store.isRevoked(other)).isFalse();
+        verify(revocationRepository).save(any(TokenRevocation.class));
+    }
+
+    @Test
+    @DisplayName("Should reject every token issued before a user-wide cutoff")
+    void revokeAllForUser_RejectsOlderTokensOnly() {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        VerifiedToken older = token(cutoff.minusSeconds(60));
+        VerifiedToken newer = token(cutoff.plusSeconds(1));
+
+        store.revokeAllForUser(userId, cutoff);
+
+        assertThat(store.isRevoked(older)).isTrue();
+        assertThat(store.isRevoked(newer)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a token issued in the same second as the cutoff")
+    void revokeAllForUser_SameSecond_Rejected() {
+        Instant second = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        // iat is truncated to seconds, the cutoff keeps its millis: the token may predate the change
+        VerifiedToken sameSecond = token(second);
+
+        store.revokeAllForUser(userId, second.plusMillis(999));
+
+        assertThat(store.isRevoked(sameSecond)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject every token of a revoked session")
+    void revokeSession_RejectsTokensCarryingSid() {
+        UUID sessionId = UUID.randomUUID();
+        Instant issuedAt = Instant.now().minusSeconds(10);
+        VerifiedToken inSession = new VerifiedToken(UUID.randomUUID(), "test@example.com", userId,
+                "test@example.com", List.of("ROLE_USER"), VerifiedToken.ACCESS, issuedAt, issuedAt.plusSeconds(900), sessionId, 0);
+
+        store.revokeSession(sessionId, userId, Instant.now());
+
+        assertThat(store.isRevoked(inSession)).isTrue();
+        assertThat(store.isRevoked(token(issuedAt))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should pick up revocations written by other instances on sync")
+    void sync_AppliesRowsFromDatabase() {
+        VerifiedToken revokedElsewhere = token(Instant.now().minusSeconds(10));
+        when(revocationRepository.findRevokedSince(any(), any())).thenReturn(List.of(
+                TokenRevocation.builder()
+                        .jti(revokedElsewhere.jti())
+                        .userId(userId)
+                        .expiresAt(revokedElsewhere.expiresAt())
+                        .revokedAt(Instant.now())
+                        .build()
+        ));
+
+        store.sync();
+
+        assertThat(store.isRevoked(revokedElsewhere)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should forget revocations once the token has expired")
+    void purgeExpired_DropsExpiredEntries() {
+        VerifiedToken expired = new VerifiedToken(UUID.randomUUID(), "test@example.com", userId,
+                "test@example.com", List.of(), VerifiedToken.ACCESS,
+                Instant.now().minusSeconds(120), Instant.now().minusSeconds(60), null, 0);
+
+        store.revoke(expired);
+        store.purgeExpired();
+
+        assertThat(store.isRevoked(expired)).isFalse();
+        verify(revocationRepository).deleteExpired(any());
+    }
+
+    private VerifiedToken token(Instant issuedAt) {
+        return new VerifiedToken(UUID.randomUUID(), "test@example.com", userId, "test@example.com",
+                List.of("ROLE_USER"), VerifiedToken.ACCESS, issuedAt, issuedAt.plusSeconds(900), null, 0);
+    }
+}
@@ -0,0 +1,112 @@
+package com.taskmanagement.userservice.unit.service;
+
+import com.taskmanagement.userservice.application.service.RefreshTokenServiceImpl;
+import com.taskmanagement.userservice.application.utils.JwtUtil;
+import com.taskmanagement.userservice.application.utils.TokenHashing;
+import com.taskmanagement.userservice.application.utils.VerifiedToken;
+import com.taskmanagement.userservice.domain.entity.RefreshToken;
+import com.taskmanagement.userservice.domain.exception.InvalidRefreshTokenException;
+import com.taskmanagement.userservice.domain.repository.RefreshTokenRepository;
+import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import com.taskmanagement.userservice.infrastructure.security.TokenRevocationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService Unit Tests")
+public class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @InjectMocks
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    private UUID userId;
+    private UUID familyId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        familyId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should store only the hash of an issued refresh token")
+    void issue_StoresTokenHash() {
+        CustomUserDetails userDetails = CustomUserDetails.fromJwtClaims(userId, "test@example.com", List.of("ROLE_USER"));
+        when(jwtUtil.generateRefreshToken(userDetails, familyId)).thenReturn("raw-refresh-token");
+        when(jwtUtil.refreshTokenLifetime()).thenReturn(Duration.ofDays(7));
+
+        String token = refreshTokenService.issue(userDetails, familyId);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(token).isEqualTo("raw-refresh-token");
+        assertThat(captor.getValue().getTokenHash()).isEqualTo(TokenHashing.sha256("raw-refresh-token"));
+        assertThat(captor.getValue().getFamilyId()).isEqualTo(familyId);
+        assertThat(captor.getValue().getUserId()).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("Should consume an unused refresh token without revoking anything")
+    void consume_FirstUse_Succeeds() {
+        when(refreshTokenRepository.markUsed(eq(TokenHashing.sha256("raw-refresh-token")), any())).thenReturn(1);
+
+        refreshTokenService.consume("raw-refresh-token", refreshToken(familyId));
+
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+        verifyNoInteractions(tokenRevocationStore);
+    }
+
+    @Test
+    @DisplayName("Should revoke the whole family when a refresh token is reused")
+    void consume_Reuse_RevokesFamily() {
+        when(refreshTokenRepository.markUsed(any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.consume("raw-refresh-token", refreshToken(familyId)))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessage("Refresh token has already been used");
+
+        verify(refreshTokenRepository).revokeFamily(eq(familyId), any());
+        verify(tokenRevocationStore).revokeSession(eq(familyId), eq(userId), any());
+    }
+
+    @Test
+    @DisplayName("Should reject refresh tokens issued without a family")
+    void consume_NoFamily_Rejected() {
+        assertThatThrownBy(() -> refreshTokenService.consume("raw-refresh-token", refreshToken(null)))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    private VerifiedToken refreshToken(UUID sessionId) {
+        Instant issuedAt = Instant.now();
+        return new VerifiedToken(UUID.randomUUID(), "test@example.com", userId, "test@example.com",
+                List.of("ROLE_USER"), VerifiedToken.REFRESH, issuedAt, issuedAt.plusSeconds(604_800), sessionId, 0);
+    }
+}
@@ -2,23 +2,29 @@ package com.taskmanagement.userservice.unit.service;
 
 import com.taskmanagement.userservice.application.dto.PasswordResetTokenRequest;
 import com.taskmanagement.userservice.application.dto.ResetPasswordRequest;
+import com.taskmanagement.userservice.application.dto.SendEmailResetRequest;
 import com.taskmanagement.userservice.application.service.EmailService;
 import com.taskmanagement.userservice.application.service.ResetPasswordServiceImpl;
+import com.taskmanagement.userservice.application.utils.TokenHashing;
 import com.taskmanagement.userservice.domain.entity.PasswordResetToken;
 import com.taskmanagement.userservice.domain.entity.User;
 import com.taskmanagement.userservice.domain.exception.ResetTokenExpiredOrUsedException;
 import com.taskmanagement.userservice.domain.exception.ResetTokenNotFoundException;
 import com.taskmanagement.userservice.domain.repository.PasswordResetTokenRepository;
 import com.taskmanagement.userservice.domain.repository.UserRepository;
+import com.taskmanagement.userservice.infrastructure.persistence.ReadYourWritesTracker;
+import com.taskmanagement.userservice.infrastructure.security.AuthMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -26,6 +32,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +52,12 @@ public class ResetPasswordServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private AuthMetrics authMetrics;
+
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
     @InjectMocks // Auto-inject @Mock into this service
     private ResetPasswordServiceImpl resetPasswordService;
 
@@ -65,21 +78,21 @@ public class ResetPasswordServiceTest {
                 .build();
 
         testToken = PasswordResetToken.builder()
-                .token("valid-token")
+                .tokenHash(TokenHashing.sha256("valid-token"))
                 .userId(userId)
                 .expiryAt(LocalDateTime.now().plusMinutes(15))
                 .used(false)
                 .build();
 
         testExpiredToken = PasswordResetToken.builder()
-                .token("expired-token")
+                .tokenHash(TokenHashing.sha256("expired-token"))
                 .userId(userId)
                 .expiryAt(LocalDateTime.now().minusMinutes(1))
                 .used(false)
                 .build();
 
         testUsedToken = PasswordResetToken.builder()
-                .token("used-token")
+                .tokenHash(TokenHashing.sha256("used-token"))
                 .userId(userId)
                 .expiryAt(LocalDateTime.now().plusMinutes(15))
                 .used(true)
@@ -101,6 +114,7 @@ public class ResetPasswordServiceTest {
         // Assert - verify the expected outcome
         verify(emailService).sendPasswordResetEmail(any());
         verify(passwordResetTokenRepository).save(any());
+        verify(authMetrics).resetTokenCreated();
     }
 
     @Test
@@ -111,7 +125,7 @@ public class ResetPasswordServiceTest {
         String hashed = "hashed_password";
         ResetPasswordRequest request = new ResetPasswordRequest("token", rawPassword);
 
-        when(passwordResetTokenRepository.findByToken("token")).thenReturn(Optional.of(testToken));
+        when(passwordResetTokenRepository.findByTokenHash(TokenHashing.sha256("token"))).thenReturn(Optional.of(testToken));
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
         when(passwordEncoder.encode(rawPassword)).thenReturn(hashed);
 
@@ -123,6 +137,8 @@ public class ResetPasswordServiceTest {
         assertThat(testUser.getPassword())
                 .isEqualTo(hashed) // Hashed Value
                 .isNotEqualTo(rawPassword); // Not plain text
+        // next login by this email reads the new hash from the primary
+        verify(readYourWritesTracker).markWrite(ReadYourWritesTracker.emailKey("test@example.com"));
     }
 
     @Test
@@ -148,7 +164,7 @@ public class ResetPasswordServiceTest {
     @DisplayName("Should throw exception when token is expired")
     void resetPassword_WithExpiredToken_ThrowsException() {
         ResetPasswordRequest request = new ResetPasswordRequest("expired-token","Abc@1234");
-        when(passwordResetTokenRepository.findByToken("expired-token")).thenReturn(Optional.of(testExpiredToken));
+        when(passwordResetTokenRepository.findByTokenHash(TokenHashing.sha256("expired-token"))).thenReturn(Optional.of(testExpiredToken));
 
         assertThatThrownBy(() -> resetPasswordService.resetPassword(request))
                 .isInstanceOf(ResetTokenExpiredOrUsedException.class)
@@ -159,7 +175,7 @@ public class ResetPasswordServiceTest {
     @DisplayName("Should throw exception when token is used")
     void resetPassword_WithUsedToken_ThrowsException() {
         ResetPasswordRequest request = new ResetPasswordRequest("used-token","Abc@1234");
-        when(passwordResetTokenRepository.findByToken("used-token")).thenReturn(Optional.of(testUsedToken));
+        when(passwordResetTokenRepository.findByTokenHash(TokenHashing.sha256("used-token"))).thenReturn(Optional.of(testUsedToken));
 
         assertThatThrownBy(() -> resetPasswordService.resetPassword(request))
                 .isInstanceOf(ResetTokenExpiredOrUsedException.class)
@@ -170,7 +186,7 @@ public class ResetPasswordServiceTest {
     @DisplayName("Should throw exception when token is invalid")
     void resetPassword_WithInvalidToken_ThrowsException() {
         ResetPasswordRequest request = new ResetPasswordRequest("invalid-random-token","Abc@1234");
-        when(passwordResetTokenRepository.findByToken("invalid-random-token")).thenReturn(Optional.empty());
+        when(passwordResetTokenRepository.findByTokenHash(TokenHashing.sha256("invalid-random-token"))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> resetPasswordService.resetPassword(request))
                 .isInstanceOf(ResetTokenNotFoundException.class)
@@ -199,7 +215,7 @@ public class ResetPasswordServiceTest {
         String hashed = "hashed_password";
         ResetPasswordRequest request = new ResetPasswordRequest("valid-token", rawPassword);
 
-        when(passwordResetTokenRepository.findByToken("valid-token"))
+        when(passwordResetTokenRepository.findByTokenHash(TokenHashing.sha256("valid-token")))
                 .thenReturn(Optional.of(testToken));
         when(userRepository.findById(userId))
                 .thenReturn(Optional.of(testUser));
@@ -211,4 +227,32 @@ public class ResetPasswordServiceTest {
         assertThat(testToken.isUsed()).isTrue(); // Token is mark as used
         verify(passwordResetTokenRepository).save(testToken); // and saved
     }
+
+    @Test
+    @DisplayName("Should store only the hash of the reset token")
+    void createPasswordResetToken_StoresTokenHash() {
+        PasswordResetTokenRequest request = new PasswordResetTokenRequest("test@example.com");
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        ArgumentCaptor<PasswordResetToken> tokenCaptor = ArgumentCaptor.forClass(PasswordResetToken.class);
+        ArgumentCaptor<SendEmailResetRequest> emailCaptor = ArgumentCaptor.forClass(SendEmailResetRequest.class);
+
+        resetPasswordService.createPasswordResetToken(request);
+
+        verify(passwordResetTokenRepository).save(tokenCaptor.capture());
+        verify(emailService).sendPasswordResetEmail(emailCaptor.capture());
+        String rawToken = emailCaptor.getValue().getResetLink().substring(emailCaptor.getValue().getResetLink().indexOf("token=") + 6);
+        assertThat(tokenCaptor.getValue().getTokenHash()).isEqualTo(TokenHashing.sha256(rawToken));
+    }
+
+    @Test
+    @DisplayName("Should delete expired tokens in chunks until a partial chunk")
+    void cleanupExpiredTokens_DeletesInChunks() {
+        ReflectionTestUtils.setField(resetPasswordService, "cleanupBatchSize", 100);
+        when(passwordResetTokenRepository.deleteExpiredBatch(any(), eq(100))).thenReturn(100, 100, 42);
+
+        resetPasswordService.cleanupExpiredTokens();
+
+        verify(passwordResetTokenRepository, times(3)).deleteExpiredBatch(any(), eq(100));
+        verify(authMetrics).resetTokensPurged(242);
+    }
 }
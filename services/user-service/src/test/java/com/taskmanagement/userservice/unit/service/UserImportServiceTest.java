@@ -0,0 +1,137 @@
+package com.taskmanagement.userservice.unit.service;
+
+import com.taskmanagement.userservice.application.dto.BulkImportError;
+import com.taskmanagement.userservice.application.dto.BulkImportResponse;
+import com.taskmanagement.userservice.application.service.UserImportServiceImpl;
+import com.taskmanagement.userservice.application.utils.UserImportReader;
+import com.taskmanagement.userservice.domain.projection.ImportedUser;
+import com.taskmanagement.userservice.domain.projection.RoleGrantRow;
+import com.taskmanagement.userservice.domain.projection.RoleVersionStamp;
+import com.taskmanagement.userservice.domain.repository.UserImportRepository;
+import com.taskmanagement.userservice.infrastructure.security.PasswordHashingEngine;
+import com.taskmanagement.userservice.infrastructure.security.RbacRegistry;
+import com.taskmanagement.userservice.infrastructure.security.RbacSnapshot;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportService Unit Tests")
+public class UserImportServiceTest {
+
+    @Mock
+    private UserImportRepository userImportRepository;
+
+    @Mock
+    private PasswordHashingEngine passwordHashingEngine;
+
+    @Mock
+    private RbacRegistry rbacRegistry;
+
+    private UserImportServiceImpl importService;
+    private UUID roleId;
+
+    @BeforeEach
+    void setUp() {
+        roleId = UUID.randomUUID();
+        when(rbacRegistry.current()).thenReturn(RbacSnapshot.of(new RoleVersionStamp(1L, 0L),
+                List.of(new RoleGrantRow(roleId, "USER", "User", null, null))));
+        lenient().when(passwordHashingEngine.encodeAll(anyList())).thenAnswer(invocation ->
+                ((List<?>) invocation.getArgument(0)).stream().map(raw -> "hashed-" + raw).toList());
+        importService = new UserImportServiceImpl(userImportRepository, passwordHashingEngine, rbacRegistry,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+        ReflectionTestUtils.setField(importService, "maxReportedErrors", 100);
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows in chunks and report invalid ones by row number")
+    @SuppressWarnings("unchecked")
+    void importUsers_Csv_ChunksAndReportsFailures() {
+        Set<String> stored = new HashSet<>(Set.of("taken@example.com"));
+        when(userImportRepository.findExistingEmails(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            return emails.stream().filter(stored::contains).collect(Collectors.toSet());
+        });
+        when(userImportRepository.insertAll(anyList(), eq(roleId))).thenAnswer(invocation -> {
+            List<ImportedUser> users = invocation.getArgument(0);
+            users.forEach(user -> stored.add(user.email()));
+            return trues(users.size());
+        });
+        String csv = """
+                email,password,firstName,lastName
+                a@example.com,password123,Ann,Lee
+                not-an-email,password123,Bob,Ray
+                taken@example.com,password123,Cid,Moe
+                "d@example.com","pass,word123","Dee","O'Neil"
+                a@example.com,password123,Ann,Again
+                """;
+
+        BulkImportResponse response = importService.importUsers(stream(csv), UserImportReader.Format.CSV);
+
+        assertThat(response.totalRows()).isEqualTo(5);
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(3);
+        assertThat(response.errors()).extracting(BulkImportError::row).containsExactly(2L, 3L, 5L);
+        ArgumentCaptor<List<ImportedUser>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(userImportRepository, times(2)).insertAll(inserted.capture(), eq(roleId));
+        assertThat(inserted.getAllValues().get(1).get(0).passwordHash()).isEqualTo("hashed-pass,word123");
+    }
+
+    @Test
+    @DisplayName("Should retry a failed chunk row by row so one bad row doesn't abort the others")
+    void importUsers_ChunkFails_RetriesRowByRow() {
+        when(userImportRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(userImportRepository.insertAll(anyList(), eq(roleId))).thenAnswer(invocation -> {
+            List<ImportedUser> users = invocation.getArgument(0);
+            if (users.stream().anyMatch(user -> user.email().equals("bad@example.com"))) {
+                throw new DataIntegrityViolationException("constraint");
+            }
+            return trues(users.size());
+        });
+        String ndjson = """
+                {"email":"ok@example.com","password":"password123","firstName":"Ok","lastName":"User"}
+                {"email":"bad@example.com","password":"password123","firstName":"Bad","lastName":"User"}
+                {not json}
+                """;
+
+        BulkImportResponse response = importService.importUsers(stream(ndjson), UserImportReader.Format.NDJSON);
+
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.errors()).extracting(BulkImportError::row).containsExactly(2L, 3L);
+    }
+
+    private static boolean[] trues(int size) {
+        boolean[] result = new boolean[size];
+        Arrays.fill(result, true);
+        return result;
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,165 @@
+package com.taskmanagement.userservice.unit.service;
+
+import com.taskmanagement.userservice.application.dto.BatchProfileResponse;
+import com.taskmanagement.userservice.application.dto.ProfileSummaryResponse;
+import com.taskmanagement.userservice.application.dto.UpdateProfileRequest;
+import com.taskmanagement.userservice.application.dto.UserProfileResponse;
+import com.taskmanagement.userservice.application.service.UserServiceImpl;
+import com.taskmanagement.userservice.application.utils.UserProfileCache;
+import com.taskmanagement.userservice.application.utils.UserProfileLoader;
+import com.taskmanagement.userservice.domain.entity.Gender;
+import com.taskmanagement.userservice.domain.entity.Profile;
+import com.taskmanagement.userservice.domain.exception.BatchLimitExceededException;
+import com.taskmanagement.userservice.domain.exception.ProfileNotFoundException;
+import com.taskmanagement.userservice.domain.exception.UserNotFoundException;
+import com.taskmanagement.userservice.domain.projection.ProfileSummaryRow;
+import com.taskmanagement.userservice.domain.projection.UserProfileRow;
+import com.taskmanagement.userservice.domain.repository.ProfileRepository;
+import com.taskmanagement.userservice.infrastructure.persistence.ReadYourWritesTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserService profile read path Unit Tests")
+public class UserProfileServiceTest {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    private ReadYourWritesTracker readYourWritesTracker;
+    private UserServiceImpl userService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        readYourWritesTracker = new ReadYourWritesTracker(Duration.ofSeconds(5), 100);
+        userService = new UserServiceImpl(null, profileRepository, null, null, null, null,
+                new UserProfileCache(true, 100, Duration.ofMinutes(5), new SimpleMeterRegistry()),
+                new UserProfileLoader(profileRepository, readYourWritesTracker), readYourWritesTracker);
+        ReflectionTestUtils.setField(userService, "maxBatchIds", 3);
+    }
+
+    @Test
+    @DisplayName("Should build the profile from one joined query and serve repeats from cache")
+    void getUserProfileById_SingleQueryThenCached() {
+        when(profileRepository.findProfileRowsByUserId(userId)).thenReturn(List.of(
+                row("Old bio", "USER"),
+                row("Old bio", "ADMIN")
+        ));
+
+        UserProfileResponse first = userService.getUserProfileById(userId);
+        UserProfileResponse second = userService.getUserProfileById(userId);
+
+        assertThat(first.email()).isEqualTo("test@example.com");
+        assertThat(first.roles()).containsExactlyInAnyOrder("USER", "ADMIN");
+        assertThat(second).isSameAs(first);
+        verify(profileRepository, times(1)).findProfileRowsByUserId(userId);
+        verify(profileRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    @DisplayName("Should evict the cached profile when it is updated")
+    void updateUserProfileById_EvictsCache() {
+        when(profileRepository.findProfileRowsByUserId(userId))
+                .thenReturn(List.of(row("Old bio", "USER")))
+                .thenReturn(List.of(row("New bio", "USER")));
+        when(profileRepository.findByUserId(userId)).thenReturn(Optional.of(Profile.builder()
+                .userId(userId).bio("Old bio").build()));
+        userService.getUserProfileById(userId);
+
+        UserProfileResponse updated = userService.updateUserProfileById(userId,
+                new UpdateProfileRequest(null, null, null, null, "New bio"));
+
+        assertThat(updated.bio()).isEqualTo("New bio");
+        assertThat(userService.getUserProfileById(userId).bio()).isEqualTo("New bio");
+        verify(profileRepository).save(any(Profile.class));
+    }
+
+    @Test
+    @DisplayName("Should reload an updated profile from the primary while the replica still lags")
+    void updateUserProfileById_LaggingReplica_NextMissReadsPrimary() {
+        AtomicReference<String> primaryBio = new AtomicReference<>("Old bio");
+        // the replica never sees the update, only reads pinned to the primary do
+        when(profileRepository.findProfileRowsByUserId(userId)).thenAnswer(invocation -> List.of(
+                row(readYourWritesTracker.mustReadPrimary() ? primaryBio.get() : "Old bio", "USER")));
+        when(profileRepository.findByUserId(userId)).thenReturn(Optional.of(Profile.builder()
+                .userId(userId).bio("Old bio").build()));
+        when(profileRepository.save(any(Profile.class))).thenAnswer(invocation -> {
+            primaryBio.set(invocation.<Profile>getArgument(0).getBio());
+            return invocation.getArgument(0);
+        });
+        assertThat(userService.getUserProfileById(userId).bio()).isEqualTo("Old bio");
+
+        userService.updateUserProfileById(userId, new UpdateProfileRequest(null, null, null, null, "New bio"));
+
+        assertThat(readYourWritesTracker.wroteRecently(ReadYourWritesTracker.userKey(userId))).isTrue();
+        assertThat(userService.getUserProfileById(userId).bio()).isEqualTo("New bio");
+        // served from the cache now, still the primary's value
+        assertThat(userService.getUserProfileById(userId).bio()).isEqualTo("New bio");
+    }
+
+    @Test
+    @DisplayName("Should distinguish unknown users from users without profile")
+    void getUserProfileById_NotFound() {
+        UUID withoutProfile = UUID.randomUUID();
+        when(profileRepository.findProfileRowsByUserId(userId)).thenReturn(List.of());
+        when(profileRepository.findProfileRowsByUserId(withoutProfile)).thenReturn(List.of(
+                new UserProfileRow(null, "test@example.com", null, null, null, null, null, "USER")));
+
+        assertThatThrownBy(() -> userService.getUserProfileById(userId))
+                .isInstanceOf(UserNotFoundException.class);
+        assertThatThrownBy(() -> userService.getUserProfileById(withoutProfile))
+                .isInstanceOf(ProfileNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should resolve many profiles with one query and list the ids without profile")
+    void getProfilesByUserIds_OneQueryWithMissing() {
+        UUID other = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        when(profileRepository.findSummariesByUserIdIn(anyCollection())).thenReturn(List.of(
+                new ProfileSummaryRow(other, "Jane", "Roe", null),
+                new ProfileSummaryRow(userId, "John", "Doe", "https://cdn.example.com/john.png")
+        ));
+
+        BatchProfileResponse response = userService.getProfilesByUserIds(List.of(userId, unknown, other, userId));
+
+        assertThat(response.profiles()).extracting(ProfileSummaryResponse::userId).containsExactly(userId, other);
+        assertThat(response.missing()).containsExactly(unknown);
+        verify(profileRepository, times(1)).findSummariesByUserIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should reject a batch above the per-call limit")
+    void getProfilesByUserIds_OverLimit() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        assertThatThrownBy(() -> userService.getProfilesByUserIds(ids))
+                .isInstanceOf(BatchLimitExceededException.class);
+        verifyNoInteractions(profileRepository);
+    }
+
+    private UserProfileRow row(String bio, String role) {
+        return new UserProfileRow(UUID.randomUUID(), "test@example.com", "John", "Doe",
+                LocalDate.of(1990, 1, 1), Gender.MALE, bio, role);
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskmanagement.userservice.unit.service;
+
+import com.taskmanagement.userservice.application.dto.UserSearchResponse;
+import com.taskmanagement.userservice.application.dto.UserSummaryResponse;
+import com.taskmanagement.userservice.application.service.UserSearchServiceImpl;
+import com.taskmanagement.userservice.application.utils.SearchCursor;
+import com.taskmanagement.userservice.domain.exception.InvalidCursorException;
+import com.taskmanagement.userservice.domain.projection.RoleGrantRow;
+import com.taskmanagement.userservice.domain.projection.RoleVersionStamp;
+import com.taskmanagement.userservice.domain.projection.UserSearchRow;
+import com.taskmanagement.userservice.domain.repository.UserSearchRepository;
+import com.taskmanagement.userservice.infrastructure.security.RbacRegistry;
+import com.taskmanagement.userservice.infrastructure.security.RbacSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserSearchService Unit Tests")
+public class UserSearchServiceTest {
+
+    @Mock
+    private UserSearchRepository userSearchRepository;
+
+    @Mock
+    private RbacRegistry rbacRegistry;
+
+    @InjectMocks
+    private UserSearchServiceImpl searchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(searchService, "maxPageSize", 100);
+    }
+
+    @Test
+    @DisplayName("Should return a cursor at the last row and seek from it on the next page")
+    void searchUsers_CursorRoundTrip() {
+        Instant now = Instant.parse("2026-01-01T10:00:00.123456Z");
+        UserSearchRow first = row(now);
+        UserSearchRow second = row(now.minusSeconds(1));
+        UserSearchRow extra = row(now.minusSeconds(2));
+        when(userSearchRepository.search(eq("john"), isNull(), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(first, second, extra));
+
+        UserSearchResponse page = searchService.searchUsers(" john ", null, null, 2);
+
+        assertThat(page.users()).extracting(UserSummaryResponse::id).containsExactly(first.id(), second.id());
+        assertThat(page.nextCursor()).isNotNull();
+
+        when(userSearchRepository.search(eq("john"), isNull(), eq(second.createdAt()), eq(second.id()), eq(3)))
+                .thenReturn(List.of(extra));
+
+        UserSearchResponse next = searchService.searchUsers("john", null, page.nextCursor(), 2);
+
+        assertThat(next.users()).extracting(UserSummaryResponse::id).containsExactly(extra.id());
+        assertThat(next.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should resolve the role filter from the RBAC snapshot")
+    void searchUsers_RoleFilter() {
+        UUID adminId = UUID.randomUUID();
+        when(rbacRegistry.current()).thenReturn(RbacSnapshot.of(new RoleVersionStamp(1L, 0L),
+                List.of(new RoleGrantRow(adminId, "ADMIN", "Admin", null, null))));
+        when(userSearchRepository.search(isNull(), eq(adminId), isNull(), isNull(), anyInt())).thenReturn(List.of());
+
+        UserSearchResponse page = searchService.searchUsers(null, "ADMIN", null, 20);
+
+        assertThat(page.users()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that wasn't issued by the service")
+    void searchUsers_TamperedCursor() {
+        assertThatThrownBy(() -> searchService.searchUsers(null, null, "not-a-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> SearchCursor.decode("MTIz"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static UserSearchRow row(Instant createdAt) {
+        return new UserSearchRow(UUID.randomUUID(), "john@example.com", "John", "Doe", createdAt);
+    }
+}
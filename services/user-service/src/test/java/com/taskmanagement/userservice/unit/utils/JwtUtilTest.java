@@ -0,0 +1,166 @@
+package com.taskmanagement.userservice.unit.utils;
+
+import com.taskmanagement.userservice.application.utils.JwtKeyRing;
+import com.taskmanagement.userservice.application.utils.JwtUtil;
+import com.taskmanagement.userservice.application.utils.VerifiedToken;
+import com.taskmanagement.userservice.application.utils.VerifiedTokenCache;
+import com.taskmanagement.userservice.domain.entity.Action;
+import com.taskmanagement.userservice.domain.entity.Resource;
+import com.taskmanagement.userservice.infrastructure.security.CustomUserDetails;
+import com.taskmanagement.userservice.infrastructure.security.PermissionMask;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtUtil Unit Tests")
+public class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-unit-tests-min-32-chars-long";
+
+    private JwtUtil jwtUtil;
+    private CustomUserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = newJwtUtil(SECRET);
+
+        userDetails = new CustomUserDetails(
+                UUID.randomUUID(),
+                "test@example.com",
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("TASK:READ")),
+                true,
+                true,
+                true,
+                true
+        );
+    }
+
+    @Test
+    @DisplayName("Should expose every claim from a single verification")
+    void verify_WithAccessToken_ReturnsAllClaims() {
+        String token = jwtUtil.generateToken(userDetails);
+
+        Optional<VerifiedToken> verified = jwtUtil.verify(token);
+
+        assertThat(verified).isPresent();
+        VerifiedToken claims = verified.get();
+        assertThat(claims.subject()).isEqualTo("test@example.com");
+        assertThat(claims.userId()).isEqualTo(userDetails.getId());
+        assertThat(claims.email()).isEqualTo("test@example.com");
+        assertThat(claims.roles()).containsExactly("ROLE_USER");
+        assertThat(PermissionMask.has(claims.permissions(), Resource.TASK, Action.READ)).isTrue();
+        assertThat(PermissionMask.has(claims.permissions(), Resource.TASK, Action.UPDATE)).isFalse();
+        assertThat(claims.isAccessToken()).isTrue();
+        assertThat(claims.expiresAt()).isAfter(claims.issuedAt());
+    }
+
+    @Test
+    @DisplayName("Should mark refresh tokens as REFRESH")
+    void verify_WithRefreshToken_IsRefreshToken() {
+        String token = jwtUtil.generateRefreshToken(userDetails);
+
+        VerifiedToken claims = jwtUtil.verify(token).orElseThrow();
+
+        assertThat(claims.isRefreshToken()).isTrue();
+        assertThat(claims.roles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject token signed with another key")
+    void verify_WithForeignSignature_ReturnsEmpty() {
+        String token = newJwtUtil("another-secret-key-for-unit-tests-min-32-chars").generateToken(userDetails);
+
+        assertThat(jwtUtil.verify(token)).isEmpty();
+        assertThat(jwtUtil.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed token")
+    void verify_WithMalformedToken_ReturnsEmpty() {
+        assertThat(jwtUtil.verify("not-a-jwt")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated access token from cache with identical claims")
+    void verify_WithCacheEnabled_ReturnsSameClaims() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtUtil cachingUtil = newJwtUtil(SECRET, new VerifiedTokenCache(true, 100, registry));
+        String token = cachingUtil.generateToken(userDetails);
+
+        VerifiedToken first = cachingUtil.verify(token).orElseThrow();
+        VerifiedToken second = cachingUtil.verify(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should never cache refresh tokens")
+    void verify_WithRefreshToken_NotCached() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtUtil cachingUtil = newJwtUtil(SECRET, new VerifiedTokenCache(true, 100, registry));
+        String token = cachingUtil.generateRefreshToken(userDetails);
+
+        VerifiedToken first = cachingUtil.verify(token).orElseThrow();
+        VerifiedToken second = cachingUtil.verify(token).orElseThrow();
+
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should sign with EdDSA key ring and publish the public key")
+    void verify_WithEdDsaKeyRing_UsesKidHeader() {
+        JwtKeyRing keyRing = newKeyRing(SECRET, "EdDSA");
+        JwtUtil eddsaUtil = newJwtUtil(keyRing, new VerifiedTokenCache(false, 0, new SimpleMeterRegistry()));
+        String token = eddsaUtil.generateToken(userDetails);
+
+        assertThat(eddsaUtil.verify(token)).isPresent();
+        assertThat(jwtUtil.verify(token)).isEmpty(); // HMAC ring doesn't know this kid
+        List<Map<String, Object>> jwks = keyRing.publicJwks();
+        assertThat(jwks).hasSize(1);
+        assertThat(jwks.get(0))
+                .containsEntry("kty", "OKP")
+                .containsEntry("crv", "Ed25519")
+                .containsEntry("kid", keyRing.activeKey().kid());
+    }
+
+    private static JwtUtil newJwtUtil(String secret) {
+        return newJwtUtil(secret, new VerifiedTokenCache(false, 0, new SimpleMeterRegistry()));
+    }
+
+    private static JwtUtil newJwtUtil(String secret, VerifiedTokenCache cache) {
+        return newJwtUtil(newKeyRing(secret, "HS256"), cache);
+    }
+
+    private static JwtKeyRing newKeyRing(String secret, String algorithm) {
+        JwtKeyRing keyRing = new JwtKeyRing();
+        ReflectionTestUtils.setField(keyRing, "jwtSecret", secret);
+        ReflectionTestUtils.setField(keyRing, "algorithm", algorithm);
+        ReflectionTestUtils.setField(keyRing, "keysDirectory", "");
+        ReflectionTestUtils.setField(keyRing, "configuredActiveKid", "");
+        ReflectionTestUtils.setField(keyRing, "publishAhead", Duration.ofMinutes(10));
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+        return keyRing;
+    }
+
+    private static JwtUtil newJwtUtil(JwtKeyRing keyRing, VerifiedTokenCache cache) {
+        JwtUtil util = new JwtUtil(cache, keyRing);
+        ReflectionTestUtils.setField(util, "expiration", 900_000L);
+        ReflectionTestUtils.setField(util, "refreshExpiration", 604_800_000L);
+        ReflectionTestUtils.invokeMethod(util, "init");
+        return util;
+    }
+}